@@ -0,0 +1,73 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.benchmark;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base state of the benchmarks, which runs a Siddhi app and keeps the first attribute of the last event received
+ * at its `OutputStream`. Events are sent synchronously, hence the output is available once `send` returns.
+ */
+public abstract class AbstractSiddhiAppBenchmark {
+
+    protected static final String OUTPUT_STREAM = "OutputStream";
+    private SiddhiManager siddhiManager;
+    private SiddhiAppRuntime siddhiAppRuntime;
+    private InputHandler inputHandler;
+    private volatile Object output;
+
+    protected void startSiddhiApp(String siddhiApp, String inputStream) {
+        siddhiManager = new SiddhiManager();
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback(OUTPUT_STREAM, new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                output = events[events.length - 1].getData(0);
+            }
+        });
+        inputHandler = siddhiAppRuntime.getInputHandler(inputStream);
+        siddhiAppRuntime.start();
+    }
+
+    protected Object send(Object... data) throws InterruptedException {
+        inputHandler.send(data);
+        return output;
+    }
+
+    protected Object send(Event[] events) throws InterruptedException {
+        inputHandler.send(events);
+        return output;
+    }
+
+    @TearDown
+    public void shutdown() {
+        if (siddhiAppRuntime != null) {
+            siddhiAppRuntime.shutdown();
+        }
+        if (siddhiManager != null) {
+            siddhiManager.shutdown();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.benchmark;
+
+import com.jayway.jsonpath.Configuration;
+
+/**
+ * Generates the JSON payloads and paths used by the benchmarks.
+ * <p>
+ * A payload holds a set of scalar fields at its root, the same fields inside a `leaf` object nested `depth` levels
+ * deep, and an `items` array with `items` elements each carrying the same fields.
+ */
+public final class BenchmarkPayloads {
+
+    public static final String PATH_SHALLOW = "shallow";
+    public static final String PATH_NESTED = "nested";
+    public static final String PATH_INDEXED = "indexed";
+    public static final String PATH_DEEP_SCAN = "deepScan";
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Creates a JSON payload.
+     *
+     * @param items number of elements in the `items` array
+     * @param depth nesting depth of the `leaf` object
+     * @return the payload as a JSON string
+     */
+    public static String createJson(int items, int depth) {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        appendFields(builder, 0);
+        builder.append(",\"nested\":");
+        for (int i = 0; i < depth; i++) {
+            builder.append("{\"level\":").append(i).append(",\"nested\":");
+        }
+        builder.append("{\"leaf\":{");
+        appendFields(builder, depth);
+        builder.append("}}");
+        for (int i = 0; i < depth; i++) {
+            builder.append('}');
+        }
+        builder.append(",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('{');
+            appendFields(builder, i);
+            builder.append('}');
+        }
+        return builder.append("]}").toString();
+    }
+
+    /**
+     * Creates a JSON object of the given id, used as an element of the grouping benchmarks.
+     *
+     * @param id the id of the element
+     * @return the element as a JSON string
+     */
+    public static String createElement(int id) {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        appendFields(builder, id);
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Parses the given JSON string into the object representation used for OBJECT typed attributes.
+     *
+     * @param json the JSON string
+     * @return the parsed JSON object
+     */
+    public static Object toObject(String json) {
+        return Configuration.defaultConfiguration().jsonProvider().parse(json);
+    }
+
+    /**
+     * Returns a new instance of a string payload, so that each event carries its own string as the events received
+     * from a source do, and the extension cannot reuse a document parsed for a previous event of the same instance.
+     * Object payloads are returned as they are.
+     *
+     * @param json the JSON string or object
+     * @return a new string with the same content, or the given object
+     */
+    public static Object newInstance(Object json) {
+        return json instanceof String ? new String((String) json) : json;
+    }
+
+    /**
+     * Returns the path to the given field in a payload created by {@link #createJson(int, int)}.
+     *
+     * @param field    the field name
+     * @param pathKind one of `shallow`, `nested`, `indexed` and `deepScan`
+     * @param items    number of elements in the `items` array
+     * @param depth    nesting depth of the `leaf` object
+     * @return the JSON path
+     */
+    public static String path(String field, String pathKind, int items, int depth) {
+        switch (pathKind) {
+            case PATH_SHALLOW:
+                return "$." + field;
+            case PATH_NESTED:
+                StringBuilder builder = new StringBuilder("$.nested");
+                for (int i = 0; i < depth; i++) {
+                    builder.append(".nested");
+                }
+                return builder.append(".leaf.").append(field).toString();
+            case PATH_INDEXED:
+                return "$.items[" + Math.max(items - 1, 0) + "]." + field;
+            case PATH_DEEP_SCAN:
+                return "$..leaf." + field;
+            default:
+                throw new IllegalArgumentException("Unknown path kind '" + pathKind + "'");
+        }
+    }
+
+    private static void appendFields(StringBuilder builder, int id) {
+        builder.append("\"name\":\"item-").append(id).append('"')
+                .append(",\"count\":").append(id + 1)
+                .append(",\"price\":").append(id + 0.5)
+                .append(",\"active\":").append(id % 2 == 0)
+                .append(",\"tags\":[\"a\",\"b\"]");
+    }
+}
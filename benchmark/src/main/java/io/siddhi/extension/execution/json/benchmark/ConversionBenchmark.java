@@ -0,0 +1,86 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the json:toString and json:toObject functions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionBenchmark extends AbstractSiddhiAppBenchmark {
+
+    @Param({"toString", "toStringEscaped", "toStringEscapedString", "toObject"})
+    private String function;
+
+    @Param({"10", "1000"})
+    private int items;
+
+    @Param({"1", "8"})
+    private int depth;
+
+    private Object json;
+
+    @Setup
+    public void setup() {
+        String jsonString = BenchmarkPayloads.createJson(items, depth);
+        String inputType;
+        String expression;
+        if ("toObject".equals(function)) {
+            json = jsonString;
+            inputType = "string";
+            expression = "json:toObject(json)";
+        } else if ("toStringEscapedString".equals(function)) {
+            json = jsonString;
+            inputType = "string";
+            expression = "json:toString(json, true)";
+        } else {
+            json = BenchmarkPayloads.toObject(jsonString);
+            inputType = "object";
+            expression = "toString".equals(function) ? "json:toString(json)" : "json:toString(json, true)";
+        }
+        startSiddhiApp("define stream InputStream (json " + inputType + ");\n" +
+                "from InputStream\n" +
+                "select " + expression + " as value\n" +
+                "insert into " + OUTPUT_STREAM + ";", "InputStream");
+    }
+
+    @Benchmark
+    public Object convert() throws InterruptedException {
+        return send(BenchmarkPayloads.newInstance(json));
+    }
+}
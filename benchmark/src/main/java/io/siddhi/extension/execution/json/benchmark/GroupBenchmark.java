@@ -0,0 +1,88 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the json:group and json:groupAsObject aggregators over a sliding length window. The window is filled
+ * during the setup, hence each measured event adds one element and expires another.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class GroupBenchmark extends AbstractSiddhiAppBenchmark {
+
+    @Param({"group", "groupAsObject"})
+    private String function;
+
+    @Param({"100", "5000"})
+    private int windowLength;
+
+    @Param({"16", "100000"})
+    private int distinctElements;
+
+    @Param({"false", "true"})
+    private boolean distinct;
+
+    @Param({"string", "object"})
+    private String inputType;
+
+    private Object[] elements;
+    private int next;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        elements = new Object[distinctElements];
+        for (int i = 0; i < distinctElements; i++) {
+            String element = BenchmarkPayloads.createElement(i);
+            elements[i] = "object".equals(inputType) ? BenchmarkPayloads.toObject(element) : element;
+        }
+        startSiddhiApp("define stream InputStream (json " + inputType + ");\n" +
+                "from InputStream#window.length(" + windowLength + ")\n" +
+                "select json:" + function + "(json, " + distinct + ") as value\n" +
+                "insert into " + OUTPUT_STREAM + ";", "InputStream");
+        for (int i = 0; i < windowLength; i++) {
+            group();
+        }
+    }
+
+    @Benchmark
+    public Object group() throws InterruptedException {
+        Object element = elements[next];
+        next = (next + 1) % elements.length;
+        return send(BenchmarkPayloads.newInstance(element));
+    }
+}
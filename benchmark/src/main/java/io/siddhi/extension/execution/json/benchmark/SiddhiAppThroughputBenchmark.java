@@ -0,0 +1,97 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.benchmark;
+
+import io.siddhi.core.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end throughput of a Siddhi app that tokenizes incoming orders, extracts and enriches their items, and
+ * groups them back into JSON documents. The score is the number of orders processed per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class SiddhiAppThroughputBenchmark extends AbstractSiddhiAppBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"10", "100"})
+    private int items;
+
+    @Param({"1", "8"})
+    private int depth;
+
+    @Param({"string", "object"})
+    private String inputType;
+
+    private String[] orderIds;
+    private Object[] payloads;
+
+    @Setup
+    public void setup() {
+        String jsonString = BenchmarkPayloads.createJson(items, depth);
+        orderIds = new String[BATCH_SIZE];
+        payloads = new Object[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            orderIds[i] = "order-" + i;
+            payloads[i] = "object".equals(inputType) ? BenchmarkPayloads.toObject(jsonString) : jsonString;
+        }
+        startSiddhiApp("define stream OrderStream (orderId string, json " + inputType + ");\n" +
+                "from OrderStream#json:tokenizeAsObject(json, '$.items')\n" +
+                "select orderId, json:getString(jsonElement, '$.name') as name, " +
+                "json:getInt(jsonElement, '$.count') as count, json:getDouble(jsonElement, '$.price') as price, " +
+                "json:isExists(jsonElement, '$.tags') as tagged, jsonElement as item\n" +
+                "insert into ItemStream;\n" +
+                "from ItemStream[tagged and count > 0]\n" +
+                "select orderId, json:setElement(item, '$', price * count, 'total') as item\n" +
+                "insert into EnrichedItemStream;\n" +
+                "from EnrichedItemStream#window.lengthBatch(" + items + ")\n" +
+                "select json:toString(json:groupAsObject(item, 'items')) as value\n" +
+                "insert into " + OUTPUT_STREAM + ";", "OrderStream");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Object process() throws InterruptedException {
+        Event[] events = new Event[BATCH_SIZE];
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            events[i] = new Event(timestamp, new Object[]{orderIds[i], BenchmarkPayloads.newInstance(payloads[i])});
+        }
+        return send(events);
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json;
+
+import com.jayway.jsonpath.InvalidJsonException;
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonDiagnostics;
+import io.siddhi.extension.execution.json.util.JsonEngine;
+import io.siddhi.extension.execution.json.util.JsonEngines;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonPathEvaluator;
+import io.siddhi.extension.execution.json.util.JsonTypeConverter;
+import io.siddhi.extension.execution.json.util.JsonUtils;
+import io.siddhi.extension.execution.json.util.ParsedDocumentCache;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * This class provides implementation for extracting multiple values from the given json in a single pass.
+ */
+@Extension(
+        name = "extract",
+        namespace = "json",
+        description = "Stream processor extracts the values of multiple JSON paths from the given JSON by parsing " +
+                "it only once, and appends them to the event as attributes of the requested types. Each extracted " +
+                "attribute is named after its path, by replacing the characters that are not letters or digits " +
+                "with underscores, i.e. `$.header.id` is returned as `header_id` and `$.items[0].sku` as " +
+                "`items_0_sku`. As with the json:get* functions, an input that is not a valid JSON fails the " +
+                "processing of its event.",
+        parameters = {
+                @Parameter(
+                        name = "json",
+                        description = "The input JSON from which the values are extracted. " +
+                                "UTF-8 encoded JSON can also be given as a `byte[]` or a `ByteBuffer` object.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(
+                        name = "path",
+                        description = "The JSON path of a value to be extracted.",
+                        type = {DataType.STRING}),
+                @Parameter(
+                        name = "type",
+                        description = "The type of the value extracted from the preceding path. Supported types " +
+                                "are `string`, `int`, `long`, `double`, `float`, `bool` and `object`.",
+                        type = {DataType.STRING})
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"json", "path", "type", "..."})
+        },
+        returnAttributes = {
+                @ReturnAttribute(
+                        name = "value",
+                        description = "The value retrieved by each path, converted to the given type and named " +
+                                "after the path. If there is no valid value for the path, `null` is returned.",
+                        type = {DataType.STRING, DataType.INT, DataType.LONG, DataType.DOUBLE, DataType.FLOAT,
+                                DataType.BOOL, DataType.OBJECT})},
+        examples = {
+                @Example(
+                        syntax = "define stream InputStream (payload string);\n\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#json:extract(payload, '$.id', 'string', '$.qty', 'int', " +
+                                "'$.price', 'double')\n" +
+                                "select id, qty, price\n" +
+                                "insert into OutputStream;",
+                        description = "If the input 'payload' is `{'id':'A12', 'qty':3, 'price':10.5}`, the " +
+                                "payload is parsed once and the event `('A12', 3, 10.5)` is generated."
+                )
+        }
+)
+public class JsonExtractorStreamProcessorFunction extends StreamProcessor<State> {
+    private static final Logger log = LogManager.getLogger(JsonExtractorStreamProcessorFunction.class);
+    private String[] paths;
+    private JsonPathEvaluator[] pathEvaluators;
+    private Attribute.Type[] types;
+    private List<Attribute> returnAttributes;
+    private JsonDiagnostics diagnostics;
+    private JsonFunctionMetrics metrics;
+    private JsonEngine engine;
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           State state) {
+        streamEventChunk.reset();
+        boolean tracked = metrics.markIn();
+        try {
+            while (streamEventChunk.hasNext()) {
+                StreamEvent streamEvent = streamEventChunk.next();
+                Object jsonInput = attributeExpressionExecutors[0].execute(streamEvent);
+                Object[] data = new Object[paths.length];
+                if (jsonInput != null) {
+                    Object document;
+                    metrics.parsedWithCache(jsonInput);
+                    try {
+                        document = JsonUtils.toDocument(jsonInput, engine);
+                    } catch (InvalidJsonException e) {
+                        diagnostics.report(JsonDiagnostics.Condition.INVALID_JSON, null);
+                        throw new SiddhiAppRuntimeException("The input JSON is not a valid JSON. Input JSON - " +
+                                JsonUtils.describe(jsonInput), e);
+                    }
+                    for (int i = 0; i < paths.length; i++) {
+                        data[i] = JsonUtils.detach(extract(document, i), engine);
+                    }
+                }
+                complexEventPopulater.populateComplexEvent(streamEvent, data);
+            }
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
+        if (streamEventChunk.getFirst() != null) {
+            nextProcessor.process(streamEventChunk);
+        }
+        ParsedDocumentCache.clear();
+    }
+
+    private Object extract(Object document, int index) {
+        String path = paths[index];
+        Attribute.Type type = types[index];
+        Object value = pathEvaluators[index].evaluateDocument(document, path);
+        if (value == JsonPathEvaluator.MISSING) {
+            if (pathEvaluators[index].isMissingPathLogged()) {
+                diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, path);
+            }
+            return null;
+        }
+        Object element = value;
+        if (value instanceof List && type != Attribute.Type.STRING) {
+            List values = (List) value;
+            if (values.size() != 1) {
+                if (type == Attribute.Type.OBJECT) {
+                    return value;
+                }
+                diagnostics.report(JsonDiagnostics.Condition.MULTIPLE_MATCHES, path);
+                return null;
+            }
+            element = values.get(0);
+        }
+        Object convertedValue = JsonTypeConverter.convert(value, type);
+        if (convertedValue == null && element != null) {
+            diagnostics.report(JsonDiagnostics.Condition.TYPE_MISMATCH, path);
+        }
+        return convertedValue;
+    }
+
+    /**
+     * The initialization method for {@link StreamProcessor}, which will be called before other methods and validate
+     * the all configuration and getting the initial values.
+     *
+     * @param metaStreamEvent            the  stream event meta
+     * @param abstractDefinition         the incoming stream definition
+     * @param expressionExecutors        the executors for the function parameters
+     * @param configReader               this hold the Stream Processor configuration reader.
+     * @param streamEventClonerHolder    streamEventCloner Holder
+     * @param outputExpectsExpiredEvents whether output can be expired events
+     * @param findToBeExecuted           find will be executed
+     * @param siddhiQueryContext         current siddhi query context
+     */
+    @Override
+    protected StateFactory<State> init(MetaStreamEvent metaStreamEvent, AbstractDefinition abstractDefinition,
+                                       ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                       StreamEventClonerHolder streamEventClonerHolder,
+                                       boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length < 3 || attributeExpressionExecutors.length % 2 == 0) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to json:extract() function, " +
+                    "required the json followed by one or more path and type pairs, but found " +
+                    attributeExpressionExecutors.length + " arguments");
+        }
+        if (attributeExpressionExecutors[0] == null) {
+            throw new SiddhiAppValidationException("Invalid input given to first argument 'json' of " +
+                    "json:extract() function. Input for 'json' argument cannot be null");
+        }
+        Attribute.Type firstAttributeType = attributeExpressionExecutors[0].getReturnType();
+        if (!(firstAttributeType == Attribute.Type.STRING || firstAttributeType == Attribute.Type.OBJECT)) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for first argument 'json' of " +
+                    "json:extract() function, required " + Attribute.Type.STRING + " or " + Attribute.Type
+                    .OBJECT + ", but found " + firstAttributeType.toString());
+        }
+        metrics = new JsonFunctionMetrics("json:extract", siddhiQueryContext);
+        engine = JsonEngines.read(configReader, "json:extract");
+        int pathCount = (attributeExpressionExecutors.length - 1) / 2;
+        paths = new String[pathCount];
+        pathEvaluators = new JsonPathEvaluator[pathCount];
+        types = new Attribute.Type[pathCount];
+        returnAttributes = new ArrayList<>(pathCount);
+        Set<String> attributeNames = new HashSet<>();
+        for (Attribute attribute : abstractDefinition.getAttributeList()) {
+            attributeNames.add(attribute.getName());
+        }
+        for (int i = 0; i < pathCount; i++) {
+            String path = readConstantString(2 * i + 1, "path");
+            String type = readConstantString(2 * i + 2, "type");
+            paths[i] = path;
+            pathEvaluators[i] = new JsonPathEvaluator(attributeExpressionExecutors[2 * i + 1], configReader,
+                    "json:extract", false, metrics);
+            types[i] = toAttributeType(type);
+            String attributeName = toAttributeName(path);
+            if (!attributeNames.add(attributeName)) {
+                throw new SiddhiAppValidationException("The attribute name '" + attributeName + "' derived from " +
+                        "the path '" + path + "' of json:extract() function is already used by the input stream " +
+                        "or by another path");
+            }
+            returnAttributes.add(new Attribute(attributeName, types[i]));
+        }
+        diagnostics = new JsonDiagnostics(log, "json:extract", configReader, siddhiQueryContext, metrics);
+        return null;
+    }
+
+    private String readConstantString(int index, String argumentName) {
+        ExpressionExecutor executor = attributeExpressionExecutors[index];
+        if (!(executor instanceof ConstantExpressionExecutor) || executor.getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter found for argument " + (index + 1) + " '" +
+                    argumentName + "' of json:extract() function, required a constant " + Attribute.Type.STRING);
+        }
+        return (String) ((ConstantExpressionExecutor) executor).getValue();
+    }
+
+    private static Attribute.Type toAttributeType(String type) {
+        switch (type.trim().toLowerCase(Locale.ENGLISH)) {
+            case "string":
+                return Attribute.Type.STRING;
+            case "int":
+                return Attribute.Type.INT;
+            case "long":
+                return Attribute.Type.LONG;
+            case "double":
+                return Attribute.Type.DOUBLE;
+            case "float":
+                return Attribute.Type.FLOAT;
+            case "bool":
+                return Attribute.Type.BOOL;
+            case "object":
+                return Attribute.Type.OBJECT;
+            default:
+                throw new SiddhiAppValidationException("Invalid type '" + type + "' given to json:extract() " +
+                        "function, supported types are string, int, long, double, float, bool and object");
+        }
+    }
+
+    private static String toAttributeName(String path) {
+        StringBuilder attributeName = new StringBuilder();
+        for (int i = path.startsWith("$") ? 1 : 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                attributeName.append(c);
+            } else if (attributeName.length() > 0 && attributeName.charAt(attributeName.length() - 1) != '_') {
+                attributeName.append('_');
+            }
+        }
+        if (attributeName.length() > 0 && attributeName.charAt(attributeName.length() - 1) == '_') {
+            attributeName.setLength(attributeName.length() - 1);
+        }
+        if (attributeName.length() == 0) {
+            throw new SiddhiAppValidationException("Cannot derive an attribute name from the path '" + path +
+                    "' of json:extract() function");
+        }
+        if (Character.isDigit(attributeName.charAt(0))) {
+            attributeName.insert(0, '_');
+        }
+        return attributeName.toString();
+    }
+
+    /**
+     * This will be called only once and this can be used to acquire
+     * required resources for the processing element.
+     * This will be called after initializing the system and before
+     * starting to process the events.
+     */
+    @Override
+    public void start() {
+    }
+
+    /**
+     * This will be called only once and this can be used to release
+     * the acquired resources for processing.
+     * This will be called before shutting down the system.
+     */
+    @Override
+    public void stop() {
+    }
+
+    /**
+     * @return the diagnostics of the conditions that made the function return default values
+     */
+    public JsonDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return returnAttributes;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.query.api.definition.Attribute;
+
+/**
+ * This class provides implementation for tokenizing the given json into long elements based on a specific path.
+ */
+@Extension(
+        name = "tokenizeAsLong",
+        namespace = "json",
+        description = "Stream processor tokenizes the given JSON into multiple long elements and sends them as " +
+                "separate events. The elements are converted while tokenizing, so that they do not need to be " +
+                "parsed again with json:getLong().",
+        parameters = {
+                @Parameter(
+                        name = "json",
+                        description = "The input JSON that needs to be tokenized. UTF-8 encoded JSON can also be " +
+                                "given as a `byte[]` or a `ByteBuffer` object.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(
+                        name = "path",
+                        description = "The path of the set of elements that will be tokenized.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(
+                        name = "fail.on.missing.attribute",
+                        description = "If there are no element on the given path, when set to `true` the system " +
+                                "will drop the event, and when set to `false` the system will pass 'null' value to " +
+                                "the jsonElement output attribute.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "true"),
+                @Parameter(
+                        name = "limit",
+                        description = "The maximum number of elements of the selected JSON array that are " +
+                                "tokenized.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "No limit"),
+                @Parameter(
+                        name = "offset",
+                        description = "The number of elements skipped at the beginning of the selected JSON array " +
+                                "before tokenizing.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "0"),
+                @Parameter(
+                        name = "include.index",
+                        description = "When set to `true`, the position of each element in the selected JSON " +
+                                "array is returned in the additional 'index' output attribute.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false")
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"json", "path"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute", "include.index"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute", "limit"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute", "limit", "offset"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute", "limit", "offset",
+                        "include.index"})
+        },
+        returnAttributes = {
+                @ReturnAttribute(
+                        name = "jsonElement",
+                        description = "The JSON element retrieved based on the given path converted into a long. If " +
+                                "the 'path' selects a JSON array then the system returns each element in the array " +
+                                "via a separate events. If an element cannot be converted into a long, `null` is " +
+                                "returned for it.",
+                        type = {DataType.LONG}),
+                @ReturnAttribute(
+                        name = "index",
+                        description = "The position of the element in the JSON array selected by the 'path', or " +
+                                "`null` if the 'path' does not select a JSON array. Only returned when " +
+                                "'include.index' is `true`.",
+                        type = {DataType.INT})},
+        systemParameter = {
+                @SystemParameter(
+                        name = "emit.chunk.size",
+                        description = "The maximum number of generated events sent to the next processor in a " +
+                                "single chunk. When an input generates more events, they are sent in several " +
+                                "chunks as they are generated. `0` sends all the events generated for an input " +
+                                "chunk together.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non-negative integer"),
+                @SystemParameter(
+                        name = "engine",
+                        description = "The JSON library used to parse the JSON strings, which is one of " +
+                                "`json-smart`, `gson` and `jackson`.",
+                        defaultValue = "json-smart",
+                        possibleParameters = {"json-smart", "gson", "jackson"})
+        },
+        examples = {
+                @Example(
+                        syntax = "define stream InputStream (json string);\n\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#json:tokenizeAsLong(json, '$.timestamps')\n" +
+                                "select json:getString(json, '$.name') as name, jsonElement\n" +
+                                "insert into OutputStream;",
+                        description = "If the input 'json' is `{name:'sensor-1', timestamps:[1602746400000, " +
+                                "1602746460000]}`, it generates the events `('sensor-1', 1602746400000)` and " +
+                                "`('sensor-1', 1602746460000)`."
+                )
+        }
+)
+public class JsonTokenizerAsLongStreamProcessorFunction extends TypedJsonTokenizerStreamProcessorFunction {
+
+    public JsonTokenizerAsLongStreamProcessorFunction() {
+        super("json:tokenizeAsLong", Attribute.Type.LONG);
+    }
+}
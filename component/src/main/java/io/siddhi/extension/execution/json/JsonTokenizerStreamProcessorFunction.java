@@ -18,15 +18,12 @@
 
 package io.siddhi.extension.execution.json;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.PathNotFoundException;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ParameterOverload;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.event.ComplexEventChunk;
@@ -43,6 +40,14 @@ import io.siddhi.core.query.processor.stream.StreamProcessor;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.BoundedChunkEmitter;
+import io.siddhi.extension.execution.json.util.CompiledJsonPath;
+import io.siddhi.extension.execution.json.util.JsonDiagnostics;
+import io.siddhi.extension.execution.json.util.JsonEngine;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonPathEvaluator;
+import io.siddhi.extension.execution.json.util.ParsedDocumentCache;
+import io.siddhi.extension.execution.json.util.StreamingJsonScanner;
 import io.siddhi.query.api.definition.AbstractDefinition;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
@@ -64,7 +69,8 @@ import java.util.Map;
         parameters = {
                 @Parameter(
                         name = "json",
-                        description = "The input JSON that needs to be tokenized.",
+                        description = "The input JSON that needs to be tokenized. UTF-8 encoded JSON can also be " +
+                                "given as a `byte[]` or a `ByteBuffer` object.",
                         type = {DataType.STRING, DataType.OBJECT},
                         dynamic = true),
                 @Parameter(
@@ -79,11 +85,37 @@ import java.util.Map;
                                 "the jsonElement output attribute.",
                         type = {DataType.BOOL},
                         optional = true,
-                        defaultValue = "true")
+                        defaultValue = "true"),
+                @Parameter(
+                        name = "limit",
+                        description = "The maximum number of elements of the selected JSON array that are " +
+                                "tokenized.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "No limit"),
+                @Parameter(
+                        name = "offset",
+                        description = "The number of elements skipped at the beginning of the selected JSON array " +
+                                "before tokenizing.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "0"),
+                @Parameter(
+                        name = "include.index",
+                        description = "When set to `true`, the position of each element in the selected JSON " +
+                                "array is returned in the additional 'index' output attribute.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false")
         },
         parameterOverloads = {
                 @ParameterOverload(parameterNames = {"json", "path"}),
-                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute"})
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute", "include.index"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute", "limit"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute", "limit", "offset"}),
+                @ParameterOverload(parameterNames = {"json", "path", "fail.on.missing.attribute", "limit", "offset",
+                        "include.index"})
         },
         returnAttributes = {
                 @ReturnAttribute(
@@ -91,7 +123,46 @@ import java.util.Map;
                         description = "The JSON element retrieved based on the given path will be returned " +
                                 "as a JSON string. If the 'path' selects a JSON array then the system returns each " +
                                 "element in the array as a JSON string via a separate events.",
-                        type = {DataType.STRING})},
+                        type = {DataType.STRING}),
+                @ReturnAttribute(
+                        name = "index",
+                        description = "The position of the element in the JSON array selected by the 'path', or " +
+                                "`null` if the 'path' does not select a JSON array. Only returned when " +
+                                "'include.index' is `true`.",
+                        type = {DataType.INT})},
+        systemParameter = {
+                @SystemParameter(
+                        name = "streaming.split",
+                        description = "Splits JSON arrays selected by simple paths, such as `$.items`, over JSON " +
+                                "strings by scanning the string, and emits each element as its original text, " +
+                                "instead of parsing the whole JSON and serializing each element again. The scan " +
+                                "stops after the last element selected by the 'limit' and 'offset', and the " +
+                                "scanned elements are checked to be valid before any of them is emitted. The " +
+                                "emitted elements keep the formatting of the input JSON.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(
+                        name = "streaming.validation",
+                        description = "If this is set to `true`, the streaming split checks that the whole JSON " +
+                                "string is valid before emitting any element, instead of stopping after the last " +
+                                "selected element.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(
+                        name = "emit.chunk.size",
+                        description = "The maximum number of generated events sent to the next processor in a " +
+                                "single chunk. When an input generates more events, they are sent in several " +
+                                "chunks as they are generated. `0` sends all the events generated for an input " +
+                                "chunk together.",
+                        defaultValue = "0",
+                        possibleParameters = "Any non-negative integer"),
+                @SystemParameter(
+                        name = "engine",
+                        description = "The JSON library used to parse the JSON strings, which is one of " +
+                                "`json-smart`, `gson` and `jackson`.",
+                        defaultValue = "json-smart",
+                        possibleParameters = {"json-smart", "gson", "jackson"})
+        },
         examples = {
                 @Example(
                         syntax = "define stream InputStream (json string, path string);\n\n" +
@@ -117,64 +188,129 @@ import java.util.Map;
                                 "and the 'path' is passed as `$.salary` then the system will produce " +
                                 "`('$.salary', null)`, as the 'fail.on.missing.attribute' is `true` and there are " +
                                 "no matching element for `$.salary`."
+                ),
+                @Example(
+                        syntax = "define stream InputStream (json string);\n\n" +
+                                "@info(name = 'query1')\n" +
+                                "from InputStream#json:tokenize(json, '$.items', true, 10, 20, true)\n" +
+                                "select index, jsonElement\n" +
+                                "insert into OutputStream;",
+                        description = "This generates events only for the elements 20 to 29 of the 'items' array, " +
+                                "along with their positions in the array. When 'streaming.split' is enabled, the " +
+                                "array is not scanned beyond them."
                 )
         }
 )
 public class JsonTokenizerStreamProcessorFunction extends StreamProcessor<State> {
     private static final Logger log = LogManager.getLogger(JsonTokenizerStreamProcessorFunction.class);
-    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private static final String STREAMING_SPLIT = "streaming.split";
     private boolean failOnMissingAttribute = true;
+    private int limit = Integer.MAX_VALUE;
+    private int offset = 0;
+    private boolean includeIndex = false;
+    private int maxChunkSize;
+    private boolean streamingSplit;
+    private JsonPathEvaluator jsonPathEvaluator;
+    private JsonEngine engine;
+    private JsonDiagnostics diagnostics;
+    private JsonFunctionMetrics metrics;
 
     @Override
     protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
                            StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
                            State state) {
-        ComplexEventChunk<StreamEvent> outputChunk = new ComplexEventChunk<>();
-        while (streamEventChunk.hasNext()) {
-            StreamEvent streamEvent = streamEventChunk.next();
-            Object jsonInput = attributeExpressionExecutors[0].execute(streamEvent);
-            String path = (String) attributeExpressionExecutors[1].execute(streamEvent);
-            Object filteredJsonElements;
-            try {
-                if (jsonInput instanceof String) {
-                    filteredJsonElements = JsonPath.read((String) jsonInput, path);
+        BoundedChunkEmitter emitter = new BoundedChunkEmitter(nextProcessor, maxChunkSize, metrics);
+        emitter.markIn();
+        try {
+            while (streamEventChunk.hasNext()) {
+                StreamEvent streamEvent = streamEventChunk.next();
+                Object jsonInput = attributeExpressionExecutors[0].execute(streamEvent);
+                String path = (String) attributeExpressionExecutors[1].execute(streamEvent);
+                Object filteredJsonElements;
+                if (streamingSplit && jsonInput instanceof String) {
+                    int elementCount = split((String) jsonInput, path, streamEvent, emitter, streamEventCloner,
+                            complexEventPopulater);
+                    if (elementCount == 0 && !failOnMissingAttribute) {
+                        complexEventPopulater.populateComplexEvent(streamEvent, output(null, null));
+                        streamEventChunk.remove();
+                        emitter.add(streamEvent);
+                    }
+                    if (elementCount >= 0) {
+                        continue;
+                    }
+                    filteredJsonElements = elementCount == StreamingJsonScanner.SPLIT_NOT_FOUND ?
+                            JsonPathEvaluator.MISSING : jsonPathEvaluator.evaluate(jsonInput, path);
                 } else {
-                    filteredJsonElements = JsonPath.read(jsonInput, path);
+                    filteredJsonElements = jsonPathEvaluator.evaluate(jsonInput, path);
                 }
-            } catch (PathNotFoundException e) {
-                filteredJsonElements = null;
-                log.warn(siddhiQueryContext.getSiddhiAppContext().getName() + ":" + siddhiQueryContext.getName() +
-                        ": Cannot find json element for the path '" + path + "' in the input json : " + jsonInput);
-            }
-            if (filteredJsonElements instanceof List) {
-                List filteredJsonElementsList = (List) filteredJsonElements;
-                if (((List) filteredJsonElements).size() == 0 && !failOnMissingAttribute) {
-                    Object[] data = {null};
-                    complexEventPopulater.populateComplexEvent(streamEvent, data);
-                    outputChunk.add(streamEvent);
-                } else {
-                    for (Object filteredJsonElement : filteredJsonElementsList) {
-                        Object[] data = {gson.toJson(filteredJsonElement)};
-                        StreamEvent aStreamEvent = streamEventCloner.copyStreamEvent(streamEvent);
-                        complexEventPopulater.populateComplexEvent(aStreamEvent, data);
-                        outputChunk.add(aStreamEvent);
+                if (filteredJsonElements == JsonPathEvaluator.MISSING) {
+                    filteredJsonElements = null;
+                    if (jsonPathEvaluator.isMissingPathLogged()) {
+                        diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, path);
                     }
                 }
-            } else if (filteredJsonElements instanceof Map) {
-                Object[] data = {gson.toJson(filteredJsonElements)};
-                complexEventPopulater.populateComplexEvent(streamEvent, data);
-                outputChunk.add(streamEvent);
-            } else if (filteredJsonElements instanceof String || filteredJsonElements == null) {
-                if (!failOnMissingAttribute || filteredJsonElements != null) {
-                    Object[] data = {filteredJsonElements};
+                if (filteredJsonElements instanceof List) {
+                    List filteredJsonElementsList = (List) filteredJsonElements;
+                    if (filteredJsonElementsList.size() == 0 && !failOnMissingAttribute) {
+                        Object[] data = output(null, null);
+                        complexEventPopulater.populateComplexEvent(streamEvent, data);
+                        streamEventChunk.remove();
+                        emitter.add(streamEvent);
+                    } else {
+                        int end = (int) Math.min(filteredJsonElementsList.size(), (long) offset + limit);
+                        for (int i = offset; i < end; i++) {
+                            Object[] data = output(engine.toJson(filteredJsonElementsList.get(i)), i);
+                            StreamEvent aStreamEvent = streamEventCloner.copyStreamEvent(streamEvent);
+                            complexEventPopulater.populateComplexEvent(aStreamEvent, data);
+                            emitter.add(aStreamEvent);
+                        }
+                    }
+                } else if (filteredJsonElements instanceof Map) {
+                    Object[] data = output(engine.toJson(filteredJsonElements), null);
                     complexEventPopulater.populateComplexEvent(streamEvent, data);
-                    outputChunk.add(streamEvent);
+                    streamEventChunk.remove();
+                    emitter.add(streamEvent);
+                } else if (filteredJsonElements instanceof String || filteredJsonElements == null) {
+                    if (!failOnMissingAttribute || filteredJsonElements != null) {
+                        Object[] data = output(filteredJsonElements, null);
+                        complexEventPopulater.populateComplexEvent(streamEvent, data);
+                        streamEventChunk.remove();
+                        emitter.add(streamEvent);
+                    }
                 }
             }
+        } finally {
+            emitter.markOut();
         }
-        if (outputChunk.getFirst() != null) {
-            nextProcessor.process(outputChunk);
+        emitter.flush();
+        ParsedDocumentCache.clear();
+    }
+
+    /**
+     * Emits the elements of the array selected by the path as their original text, using the
+     * {@link StreamingJsonScanner}.
+     *
+     * @return the number of elements scanned, {@link StreamingJsonScanner#SPLIT_NOT_FOUND} if the path is missing,
+     * or {@link StreamingJsonScanner#SPLIT_UNSUPPORTED} if the input needs to be evaluated without splitting
+     */
+    private int split(String jsonInput, String path, StreamEvent streamEvent,
+                      BoundedChunkEmitter emitter, StreamEventCloner streamEventCloner,
+                      ComplexEventPopulater complexEventPopulater) {
+        CompiledJsonPath compiledPath = jsonPathEvaluator.resolve(path);
+        if (!compiledPath.isSimple()) {
+            return StreamingJsonScanner.SPLIT_UNSUPPORTED;
         }
+        Object[] segments = compiledPath.getSegments();
+        boolean validate = jsonPathEvaluator.isStreamingValidated();
+        return StreamingJsonScanner.split(jsonInput, segments, offset, limit, validate, (element, index) -> {
+            StreamEvent aStreamEvent = streamEventCloner.copyStreamEvent(streamEvent);
+            complexEventPopulater.populateComplexEvent(aStreamEvent, output(element, index));
+            emitter.add(aStreamEvent);
+        });
+    }
+
+    private Object[] output(Object element, Integer index) {
+        return includeIndex ? new Object[]{element, index} : new Object[]{element};
     }
 
     /**
@@ -196,7 +332,7 @@ public class JsonTokenizerStreamProcessorFunction extends StreamProcessor<State>
                                        StreamEventClonerHolder streamEventClonerHolder,
                                        boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
                                        SiddhiQueryContext siddhiQueryContext) {
-        if (attributeExpressionExecutors.length == 2 || attributeExpressionExecutors.length == 3) {
+        if (attributeExpressionExecutors.length >= 2 && attributeExpressionExecutors.length <= 6) {
             if (attributeExpressionExecutors[0] == null) {
                 throw new SiddhiAppValidationException("Invalid input given to first argument 'json' of json:tokenize" +
                         "() function. Input for 'json' argument cannot be null");
@@ -219,7 +355,7 @@ public class JsonTokenizerStreamProcessorFunction extends StreamProcessor<State>
                         "json:tokenize() function, required " + Attribute.Type.STRING + ", but found " +
                         secondAttributeType.toString());
             }
-            if (attributeExpressionExecutors.length == 3) {
+            if (attributeExpressionExecutors.length >= 3) {
                 if (attributeExpressionExecutors[2].getReturnType() == Attribute.Type.BOOL) {
                     this.failOnMissingAttribute = (Boolean) ((ConstantExpressionExecutor)
                             attributeExpressionExecutors[2]).getValue();
@@ -229,14 +365,56 @@ public class JsonTokenizerStreamProcessorFunction extends StreamProcessor<State>
                             attributeExpressionExecutors[2].getReturnType());
                 }
             }
+            if (attributeExpressionExecutors.length == 4 &&
+                    attributeExpressionExecutors[3].getReturnType() == Attribute.Type.BOOL) {
+                this.includeIndex = readConstantBool(attributeExpressionExecutors[3], "fourth", "include.index");
+            } else if (attributeExpressionExecutors.length >= 4) {
+                this.limit = readConstantInt(attributeExpressionExecutors[3], "fourth", "limit", 1);
+            }
+            if (attributeExpressionExecutors.length >= 5) {
+                this.offset = readConstantInt(attributeExpressionExecutors[4], "fifth", "offset", 0);
+            }
+            if (attributeExpressionExecutors.length == 6) {
+                this.includeIndex = readConstantBool(attributeExpressionExecutors[5], "sixth", "include.index");
+            }
         } else {
             throw new SiddhiAppValidationException("Invalid no of arguments passed to json:tokenize() function, "
-                    + "required 2, but found " + attributeExpressionExecutors.length);
+                    + "required 2 to 6, but found " + attributeExpressionExecutors.length);
         }
 
+        streamingSplit = Boolean.parseBoolean(configReader.readConfig(STREAMING_SPLIT, "false"));
+        maxChunkSize = BoundedChunkEmitter.readMaxChunkSize(configReader, "json:tokenize");
+        metrics = new JsonFunctionMetrics("json:tokenize", siddhiQueryContext);
+        jsonPathEvaluator = new JsonPathEvaluator(attributeExpressionExecutors[1], configReader, "json:tokenize",
+                true, metrics);
+        engine = jsonPathEvaluator.getEngine();
+        diagnostics = new JsonDiagnostics(log, "json:tokenize", configReader, siddhiQueryContext, metrics);
         return null;
     }
 
+    private static boolean readConstantBool(ExpressionExecutor executor, String position, String argumentName) {
+        if (!(executor instanceof ConstantExpressionExecutor) || executor.getReturnType() != Attribute.Type.BOOL) {
+            throw new SiddhiAppValidationException("Invalid parameter found for " + position + " argument '" +
+                    argumentName + "' of json:tokenize() function, required a constant " + Attribute.Type.BOOL);
+        }
+        return (Boolean) ((ConstantExpressionExecutor) executor).getValue();
+    }
+
+    private static int readConstantInt(ExpressionExecutor executor, String position, String argumentName,
+                                       int minValue) {
+        if (!(executor instanceof ConstantExpressionExecutor) || executor.getReturnType() != Attribute.Type.INT) {
+            throw new SiddhiAppValidationException("Invalid parameter found for " + position + " argument '" +
+                    argumentName + "' of json:tokenize() function, required a constant " + Attribute.Type.INT);
+        }
+        int value = (Integer) ((ConstantExpressionExecutor) executor).getValue();
+        if (value < minValue) {
+            throw new SiddhiAppValidationException("Invalid value " + value + " given to " + position +
+                    " argument '" + argumentName + "' of json:tokenize() function, required a value of at least " +
+                    minValue);
+        }
+        return value;
+    }
+
     /**
      * This will be called only once and this can be used to acquire
      * required resources for the processing element.
@@ -258,10 +436,20 @@ public class JsonTokenizerStreamProcessorFunction extends StreamProcessor<State>
 
     }
 
+    /**
+     * @return the diagnostics of the conditions that made the function return default values
+     */
+    public JsonDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
     @Override
     public List<Attribute> getReturnAttributes() {
         List<Attribute> attributes = new ArrayList<>();
         attributes.add(new Attribute("jsonElement", Attribute.Type.STRING));
+        if (includeIndex) {
+            attributes.add(new Attribute("index", Attribute.Type.INT));
+        }
         return attributes;
     }
 
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json;
+
+import com.jayway.jsonpath.InvalidJsonException;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.BoundedChunkEmitter;
+import io.siddhi.extension.execution.json.util.JsonDiagnostics;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonPathEvaluator;
+import io.siddhi.extension.execution.json.util.JsonTypeConverter;
+import io.siddhi.extension.execution.json.util.JsonUtils;
+import io.siddhi.extension.execution.json.util.ParsedDocumentCache;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base implementation of the tokenizers that convert each element selected by the path into a given attribute type
+ * while tokenizing, so that the elements do not need to be parsed again by the following queries.
+ */
+public abstract class TypedJsonTokenizerStreamProcessorFunction extends StreamProcessor<State> {
+    private static final Logger log = LogManager.getLogger(TypedJsonTokenizerStreamProcessorFunction.class);
+    private final String functionName;
+    private final Attribute.Type type;
+    private boolean failOnMissingAttribute = true;
+    private int limit = Integer.MAX_VALUE;
+    private int offset = 0;
+    private boolean includeIndex = false;
+    private int maxChunkSize;
+    private JsonPathEvaluator jsonPathEvaluator;
+    private JsonDiagnostics diagnostics;
+    private JsonFunctionMetrics metrics;
+
+    /**
+     * @param functionName the name of the tokenizer used in the error messages, i.e. json:tokenizeAsInt
+     * @param type         the type of the generated jsonElement attribute
+     */
+    protected TypedJsonTokenizerStreamProcessorFunction(String functionName, Attribute.Type type) {
+        this.functionName = functionName;
+        this.type = type;
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           State state) {
+        BoundedChunkEmitter emitter = new BoundedChunkEmitter(nextProcessor, maxChunkSize, metrics);
+        emitter.markIn();
+        try {
+            while (streamEventChunk.hasNext()) {
+                StreamEvent streamEvent = streamEventChunk.next();
+                Object jsonInput = attributeExpressionExecutors[0].execute(streamEvent);
+                String path = (String) attributeExpressionExecutors[1].execute(streamEvent);
+                Object filteredJsonElements;
+                try {
+                    filteredJsonElements = jsonPathEvaluator.evaluate(jsonInput, path);
+                } catch (InvalidJsonException e) {
+                    diagnostics.report(JsonDiagnostics.Condition.INVALID_JSON, path);
+                    throw new SiddhiAppRuntimeException("The input JSON is not a valid JSON. Input JSON - " +
+                            JsonUtils.describe(jsonInput), e);
+                }
+                if (filteredJsonElements == JsonPathEvaluator.MISSING) {
+                    filteredJsonElements = null;
+                    if (jsonPathEvaluator.isMissingPathLogged()) {
+                        diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, path);
+                    }
+                }
+                if (filteredJsonElements instanceof List) {
+                    List filteredJsonElementsList = (List) filteredJsonElements;
+                    if (filteredJsonElementsList.size() == 0 && !failOnMissingAttribute) {
+                        Object[] data = output(null, null);
+                        complexEventPopulater.populateComplexEvent(streamEvent, data);
+                        streamEventChunk.remove();
+                        emitter.add(streamEvent);
+                    } else {
+                        int end = (int) Math.min(filteredJsonElementsList.size(), (long) offset + limit);
+                        for (int i = offset; i < end; i++) {
+                            Object[] data = output(convert(filteredJsonElementsList.get(i), path), i);
+                            StreamEvent aStreamEvent = streamEventCloner.copyStreamEvent(streamEvent);
+                            complexEventPopulater.populateComplexEvent(aStreamEvent, data);
+                            emitter.add(aStreamEvent);
+                        }
+                    }
+                } else if (filteredJsonElements != null || !failOnMissingAttribute) {
+                    Object[] data = output(convert(filteredJsonElements, path), null);
+                    complexEventPopulater.populateComplexEvent(streamEvent, data);
+                    streamEventChunk.remove();
+                    emitter.add(streamEvent);
+                }
+            }
+        } finally {
+            emitter.markOut();
+        }
+        emitter.flush();
+        ParsedDocumentCache.clear();
+    }
+
+    private Object convert(Object element, String path) {
+        Object value = JsonTypeConverter.convert(element, type);
+        if (value == null && element != null) {
+            diagnostics.report(JsonDiagnostics.Condition.TYPE_MISMATCH, path);
+        }
+        return value;
+    }
+
+    private Object[] output(Object element, Integer index) {
+        return includeIndex ? new Object[]{element, index} : new Object[]{element};
+    }
+
+    /**
+     * The initialization method for {@link StreamProcessor}, which will be called before other methods and validate
+     * the all configuration and getting the initial values.
+     *
+     * @param metaStreamEvent            the  stream event meta
+     * @param abstractDefinition         the incoming stream definition
+     * @param expressionExecutors        the executors for the function parameters
+     * @param configReader               this hold the Stream Processor configuration reader.
+     * @param streamEventClonerHolder    streamEventCloner Holder
+     * @param outputExpectsExpiredEvents whether output can be expired events
+     * @param findToBeExecuted           find will be executed
+     * @param siddhiQueryContext         current siddhi query context
+     */
+    @Override
+    protected StateFactory<State> init(MetaStreamEvent metaStreamEvent, AbstractDefinition abstractDefinition,
+                                       ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                       StreamEventClonerHolder streamEventClonerHolder,
+                                       boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length >= 2 && attributeExpressionExecutors.length <= 6) {
+            if (attributeExpressionExecutors[0] == null) {
+                throw new SiddhiAppValidationException("Invalid input given to first argument 'json' of " +
+                        functionName + "() function. Input for 'json' argument cannot be null");
+            }
+            Attribute.Type firstAttributeType = attributeExpressionExecutors[0].getReturnType();
+            if (!(firstAttributeType == Attribute.Type.STRING || firstAttributeType == Attribute.Type.OBJECT)) {
+                throw new SiddhiAppValidationException("Invalid parameter type found for first argument 'json' of " +
+                        functionName + "() function, required " + Attribute.Type.STRING + " or " +
+                        Attribute.Type.OBJECT + ", but found " + firstAttributeType.toString());
+            }
+            if (attributeExpressionExecutors[1] == null) {
+                throw new SiddhiAppValidationException("Invalid input given to second argument 'path' of " +
+                        functionName + "() function. Input 'path' argument cannot be null");
+            }
+            Attribute.Type secondAttributeType = attributeExpressionExecutors[1].getReturnType();
+            if (secondAttributeType != Attribute.Type.STRING) {
+                throw new SiddhiAppValidationException("Invalid parameter type found for second argument 'path' of " +
+                        functionName + "() function, required " + Attribute.Type.STRING + ", but found " +
+                        secondAttributeType.toString());
+            }
+            if (attributeExpressionExecutors.length >= 3) {
+                if (attributeExpressionExecutors[2] instanceof ConstantExpressionExecutor &&
+                        attributeExpressionExecutors[2].getReturnType() == Attribute.Type.BOOL) {
+                    this.failOnMissingAttribute = (Boolean) ((ConstantExpressionExecutor)
+                            attributeExpressionExecutors[2]).getValue();
+                } else {
+                    throw new SiddhiAppValidationException("Invalid parameter found for third argument " +
+                            "'fail.on.missing.attribute' of " + functionName + "() function, required a constant " +
+                            Attribute.Type.BOOL);
+                }
+            }
+            if (attributeExpressionExecutors.length == 4 &&
+                    attributeExpressionExecutors[3].getReturnType() == Attribute.Type.BOOL) {
+                this.includeIndex = readConstantBool(attributeExpressionExecutors[3], "fourth", "include.index");
+            } else if (attributeExpressionExecutors.length >= 4) {
+                this.limit = readConstantInt(attributeExpressionExecutors[3], "fourth", "limit", 1);
+            }
+            if (attributeExpressionExecutors.length >= 5) {
+                this.offset = readConstantInt(attributeExpressionExecutors[4], "fifth", "offset", 0);
+            }
+            if (attributeExpressionExecutors.length == 6) {
+                this.includeIndex = readConstantBool(attributeExpressionExecutors[5], "sixth", "include.index");
+            }
+        } else {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to " + functionName +
+                    "() function, required 2 to 6, but found " + attributeExpressionExecutors.length);
+        }
+
+        maxChunkSize = BoundedChunkEmitter.readMaxChunkSize(configReader, functionName);
+        metrics = new JsonFunctionMetrics(functionName, siddhiQueryContext);
+        jsonPathEvaluator = new JsonPathEvaluator(attributeExpressionExecutors[1], configReader, functionName,
+                true, metrics);
+        diagnostics = new JsonDiagnostics(log, functionName, configReader, siddhiQueryContext, metrics);
+        return null;
+    }
+
+    private boolean readConstantBool(ExpressionExecutor executor, String position, String argumentName) {
+        if (!(executor instanceof ConstantExpressionExecutor) || executor.getReturnType() != Attribute.Type.BOOL) {
+            throw new SiddhiAppValidationException("Invalid parameter found for " + position + " argument '" +
+                    argumentName + "' of " + functionName + "() function, required a constant " +
+                    Attribute.Type.BOOL);
+        }
+        return (Boolean) ((ConstantExpressionExecutor) executor).getValue();
+    }
+
+    private int readConstantInt(ExpressionExecutor executor, String position, String argumentName, int minValue) {
+        if (!(executor instanceof ConstantExpressionExecutor) || executor.getReturnType() != Attribute.Type.INT) {
+            throw new SiddhiAppValidationException("Invalid parameter found for " + position + " argument '" +
+                    argumentName + "' of " + functionName + "() function, required a constant " +
+                    Attribute.Type.INT);
+        }
+        int value = (Integer) ((ConstantExpressionExecutor) executor).getValue();
+        if (value < minValue) {
+            throw new SiddhiAppValidationException("Invalid value " + value + " given to " + position +
+                    " argument '" + argumentName + "' of " + functionName + "() function, required a value of " +
+                    "at least " + minValue);
+        }
+        return value;
+    }
+
+    /**
+     * This will be called only once and this can be used to acquire
+     * required resources for the processing element.
+     * This will be called after initializing the system and before
+     * starting to process the events.
+     */
+    @Override
+    public void start() {
+    }
+
+    /**
+     * This will be called only once and this can be used to release
+     * the acquired resources for processing.
+     * This will be called before shutting down the system.
+     */
+    @Override
+    public void stop() {
+    }
+
+    /**
+     * @return the diagnostics of the conditions that made the function return default values
+     */
+    public JsonDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        List<Attribute> attributes = new ArrayList<>();
+        attributes.add(new Attribute("jsonElement", type));
+        if (includeIndex) {
+            attributes.add(new Attribute("index", Attribute.Type.INT));
+        }
+        return attributes;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+}
@@ -18,16 +18,13 @@
 
 package io.siddhi.extension.execution.json.function;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.jayway.jsonpath.InvalidJsonException;
-import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.PathNotFoundException;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ParameterOverload;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -36,6 +33,10 @@ import io.siddhi.core.executor.function.FunctionExecutor;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonDiagnostics;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonPathEvaluator;
+import io.siddhi.extension.execution.json.util.JsonUtils;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.LogManager;
@@ -54,7 +55,8 @@ import java.util.List;
         parameters = {
                 @Parameter(
                         name = "json",
-                        description = "The JSON input containing double value.",
+                        description = "The JSON input containing double value. UTF-8 encoded JSON can also be " +
+                                "given as a `byte[]` or a `ByteBuffer` object.",
                         type = {DataType.STRING, DataType.OBJECT},
                         dynamic = true),
                 @Parameter(
@@ -70,6 +72,50 @@ import java.util.List;
                 description = "Returns the double value retrieved by the JSON path from the given input JSON, " +
                         "if no valid double found in the given path, it returns `null`.",
                 type = {DataType.DOUBLE}),
+        systemParameter = {
+                @SystemParameter(
+                        name = "path.cache.size",
+                        description = "The maximum number of compiled JSON paths kept when the 'path' argument is " +
+                                "not a constant.",
+                        defaultValue = "256",
+                        possibleParameters = "Any positive integer"),
+                @SystemParameter(
+                        name = "streaming.evaluation",
+                        description = "Evaluates simple paths over JSON strings by scanning the string and parsing " +
+                                "only the requested element, instead of parsing the whole JSON. A JSON string read " +
+                                "by several functions is scanned by the first one and parsed once for the others.",
+                        defaultValue = "true",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(
+                        name = "streaming.validation",
+                        description = "If this is set to `true`, the streaming evaluation checks that the whole " +
+                                "JSON string is valid, and uses the last occurrence of a duplicate key, instead of " +
+                                "stopping as soon as the requested element is found.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(
+                        name = "missing.path.mode",
+                        description = "Handling of paths that are not present in the input JSON. `log` counts " +
+                                "the missing paths in the diagnostics summary, while `ignore` returns `null` " +
+                                "without reporting or raising exceptions.",
+                        defaultValue = "log",
+                        possibleParameters = {"log", "ignore"}),
+                @SystemParameter(
+                        name = "diagnostics.summary.interval",
+                        description = "The interval in milliseconds at which a summary of the missing paths, " +
+                                "unmatched paths, type mismatches and invalid JSON inputs handled by the function " +
+                                "is logged, whether or not further events arrive. A summary is logged only if such " +
+                                "inputs were handled since the previous one, and a final summary is logged when the " +
+                                "Siddhi app shuts down. Each occurrence is logged only at DEBUG level.",
+                        defaultValue = "60000",
+                        possibleParameters = "Any positive long value"),
+                @SystemParameter(
+                        name = "engine",
+                        description = "The JSON library used to parse the JSON strings, which is one of " +
+                                "`json-smart`, `gson` and `jackson`.",
+                        defaultValue = "json-smart",
+                        possibleParameters = {"json-smart", "gson", "jackson"})
+        },
         examples = {
                 @Example(
                         syntax = "json:getDouble(json,'$.salary')",
@@ -91,7 +137,9 @@ import java.util.List;
 public class GetDoubleJSONFunctionExtension extends FunctionExecutor {
     private static final long serialVersionUID = 1L;
     private static final Logger log = LogManager.getLogger(GetDoubleJSONFunctionExtension.class);
-    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private JsonPathEvaluator jsonPathEvaluator;
+    private JsonFunctionMetrics metrics;
+    private JsonDiagnostics diagnostics;
 
     /**
      * The initialization method for {@link FunctionExecutor}, which will be called before other methods and validate
@@ -130,7 +178,10 @@ public class GetDoubleJSONFunctionExtension extends FunctionExecutor {
             throw new SiddhiAppValidationException("Invalid no of arguments passed to json:getDouble() function, "
                     + "required 2, but found " + attributeExpressionExecutors.length);
         }
-
+        metrics = new JsonFunctionMetrics("json:getDouble", siddhiQueryContext);
+        jsonPathEvaluator = new JsonPathEvaluator(attributeExpressionExecutors[1], configReader, "json:getDouble",
+                true, metrics);
+        diagnostics = new JsonDiagnostics(log, "json:getDouble", configReader, siddhiQueryContext, metrics);
         return null;
     }
 
@@ -143,30 +194,38 @@ public class GetDoubleJSONFunctionExtension extends FunctionExecutor {
      */
     @Override
     protected Object execute(Object[] data, State state) {
-        String jsonInput;
-        if (data[0] instanceof String) {
-            jsonInput = (String) data[0];
-        } else {
-            jsonInput = gson.toJson(data[0]);
+        if (!metrics.markIn()) {
+            return evaluate(data);
         }
+        try {
+            return evaluate(data);
+        } finally {
+            metrics.markOut();
+        }
+    }
+
+    private Object evaluate(Object[] data) {
+        Object jsonInput = data[0];
         String path = data[1].toString();
         Object filteredJsonElement = null;
         Double returnValue;
         try {
-            filteredJsonElement = JsonPath.read(jsonInput, path);
-        } catch (PathNotFoundException e) {
-            log.error(siddhiQueryContext.getSiddhiAppContext().getName() + ":" + siddhiQueryContext.getName() +
-                    ": Cannot find json element for the path '" + path + "'. Hence it returns the default value " +
-                    "'null'");
+            filteredJsonElement = jsonPathEvaluator.evaluate(jsonInput, path);
         } catch (InvalidJsonException e) {
-            throw new SiddhiAppRuntimeException("The input JSON is not a valid JSON. Input JSON - " + jsonInput, e);
+            diagnostics.report(JsonDiagnostics.Condition.INVALID_JSON, path);
+            throw new SiddhiAppRuntimeException("The input JSON is not a valid JSON. Input JSON - " +
+                    JsonUtils.describe(jsonInput), e);
+        }
+        if (filteredJsonElement == JsonPathEvaluator.MISSING) {
+            filteredJsonElement = null;
+            if (jsonPathEvaluator.isMissingPathLogged()) {
+                diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, path);
+            }
         }
         if (filteredJsonElement instanceof List) {
             if (((List) filteredJsonElement).size() != 1) {
                 filteredJsonElement = null;
-                log.error(siddhiQueryContext.getSiddhiAppContext().getName() + ":" + siddhiQueryContext.getName() +
-                        ": Multiple matches or no matches for the given path '" + path + "' in the input json. " +
-                        "Please use valid path which provides the exact match for the given json");
+                diagnostics.report(JsonDiagnostics.Condition.MULTIPLE_MATCHES, path);
             } else {
                 filteredJsonElement = ((List) filteredJsonElement).get(0);
             }
@@ -178,9 +237,7 @@ public class GetDoubleJSONFunctionExtension extends FunctionExecutor {
             returnValue = Double.parseDouble(filteredJsonElement.toString());
         } catch (NumberFormatException e) {
             returnValue = null;
-            log.error(siddhiQueryContext.getSiddhiAppContext().getName() + ":" + siddhiQueryContext.getName() +
-                    ": The value that is retrieved using the given path '" + path +
-                    "', is not a valid double value. Hence it returns the default value 'null'");
+            diagnostics.report(JsonDiagnostics.Condition.TYPE_MISMATCH, path);
         }
         return returnValue;
     }
@@ -198,6 +255,13 @@ public class GetDoubleJSONFunctionExtension extends FunctionExecutor {
         return null;
     }
 
+    /**
+     * @return the diagnostics of the conditions that made the function return default values
+     */
+    public JsonDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
     /**
      * return a Class object that represents the formal return type of the method represented by this Method object.
      *
@@ -18,13 +18,13 @@
 
 package io.siddhi.extension.execution.json.function;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.jayway.jsonpath.InvalidJsonException;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ParameterOverload;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -34,18 +34,23 @@ import io.siddhi.core.query.selector.attribute.aggregator.AttributeAggregatorExe
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonElementKey;
+import io.siddhi.extension.execution.json.util.JsonEngine;
+import io.siddhi.extension.execution.json.util.JsonEngines;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonGroupSnapshotCodec;
+import io.siddhi.extension.execution.json.util.JsonSerializer;
+import io.siddhi.extension.execution.json.util.JsonUtils;
 import io.siddhi.query.api.definition.Attribute;
-import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
-import net.minidev.json.parser.ParseException;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static io.siddhi.query.api.definition.Attribute.Type.OBJECT;
 import static io.siddhi.query.api.definition.Attribute.Type.STRING;
-import static net.minidev.json.parser.JSONParser.MODE_JSON_SIMPLE;
 
 /**
  * group(json, enclosing.element, distinct)
@@ -60,7 +65,8 @@ import static net.minidev.json.parser.JSONParser.MODE_JSON_SIMPLE;
                 "elements returns a JSON array.",
         parameters = {
                 @Parameter(name = "json",
-                        description = "The JSON element that needs to be aggregated.",
+                        description = "The JSON element that needs to be aggregated. UTF-8 encoded JSON can also be " +
+                                "given as a `byte[]` or a `ByteBuffer` object.",
                         type = {DataType.STRING, DataType.OBJECT},
                         dynamic = true),
                 @Parameter(name = "enclosing.element",
@@ -81,6 +87,20 @@ import static net.minidev.json.parser.JSONParser.MODE_JSON_SIMPLE;
                 description = "This returns a JSON object if enclosing element is provided. If there is no enclosing " +
                         "element then it returns a JSON array.",
                 type = {DataType.OBJECT}),
+        systemParameter = {
+                @SystemParameter(
+                        name = "snapshot.compression",
+                        description = "If this is set to `true`, the aggregated JSON elements are compressed when " +
+                                "the state of the aggregator is persisted.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(
+                        name = "engine",
+                        description = "The JSON library used to parse the aggregated JSON elements, which is one " +
+                                "of `json-smart`, `gson` and `jackson`.",
+                        defaultValue = "json-smart",
+                        possibleParameters = {"json-smart", "gson", "jackson"})
+        },
         examples = {
                 @Example(
                         syntax = "from InputStream#window.length(5)\n" +
@@ -125,8 +145,26 @@ public class GroupAggregatorFunctionExtension
 
     private static final long serialVersionUID = 1L;
     private static final String KEY_DATA_MAP = "dataMap";
+    private static final String KEY_SNAPSHOT = "snapshot";
     private SiddhiQueryContext siddhiQueryContext;
-    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private JsonFunctionMetrics metrics;
+    private boolean compressSnapshots;
+    private JsonEngine engine;
+    private final String functionName;
+    private final boolean binary;
+
+    public GroupAggregatorFunctionExtension() {
+        this("json:group", false);
+    }
+
+    /**
+     * @param functionName the name of the function used in messages and metrics, i.e. 'json:group'
+     * @param binary       whether the aggregated JSON is returned as UTF-8 encoded bytes
+     */
+    protected GroupAggregatorFunctionExtension(String functionName, boolean binary) {
+        this.functionName = functionName;
+        this.binary = binary;
+    }
 
     @Override
     protected StateFactory<ExtensionState> init(ExpressionExecutor[] expressionExecutors,
@@ -135,42 +173,73 @@ public class GroupAggregatorFunctionExtension
                                                 ConfigReader configReader,
                                                 SiddhiQueryContext siddhiQueryContext) {
         this.siddhiQueryContext = siddhiQueryContext;
-        return () -> new ExtensionState();
+        this.metrics = new JsonFunctionMetrics(functionName, siddhiQueryContext);
+        this.compressSnapshots = JsonGroupSnapshotCodec.readCompression(configReader);
+        this.engine = JsonEngines.read(configReader, functionName, false);
+        return () -> new ExtensionState(compressSnapshots, engine);
     }
 
     @Override
     public Object processAdd(Object o, ExtensionState state) {
-        addJSONElement(o, state);
-        return constructJSONString(null, false, state);
+        boolean tracked = metrics.markIn();
+        try {
+            addJSONElement(o, state);
+            return constructJSONString(null, false, state);
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
     }
 
     @Override
     public Object processAdd(Object[] objects, ExtensionState state) {
-        addJSONElement(objects[0], state);
-        return processJSONObject(objects, state);
+        boolean tracked = metrics.markIn();
+        try {
+            addJSONElement(objects[0], state);
+            return processJSONObject(objects, state);
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
     }
 
     @Override
     public Object processRemove(Object o, ExtensionState state) {
-        removeJSONElement(o, state);
-        return constructJSONString(null, false, state);
+        boolean tracked = metrics.markIn();
+        try {
+            removeJSONElement(o, state);
+            return constructJSONString(null, false, state);
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
     }
 
     @Override
     public Object processRemove(Object[] objects, ExtensionState state) {
-        removeJSONElement(objects[0], state);
-        return processJSONObject(objects, state);
+        boolean tracked = metrics.markIn();
+        try {
+            removeJSONElement(objects[0], state);
+            return processJSONObject(objects, state);
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
     }
 
     @Override
     public Object reset(ExtensionState state) {
-        state.dataMap.clear();
+        state.clear();
         return null;
     }
 
     @Override
     public Attribute.Type getReturnType() {
-        return STRING;
+        return binary ? OBJECT : STRING;
     }
 
     private Object processJSONObject(Object[] objects, ExtensionState state) {
@@ -187,83 +256,202 @@ public class GroupAggregatorFunctionExtension
     }
 
     private void addJSONElement(Object json, ExtensionState state) {
-        JSONObject jsonObject = getJSONObject(json);
-        Integer count = state.dataMap.get(jsonObject);
-        state.dataMap.put(jsonObject, (count == null) ? 1 : count + 1);
+        state.add(JsonElementKey.of(getJSONObject(json)));
     }
 
     private void removeJSONElement(Object json, ExtensionState state) {
-        JSONObject jsonObject = getJSONObject(json);
-        Integer count = state.dataMap.get(jsonObject);
-        if (count == 1) {
-            state.dataMap.remove(jsonObject);
-        } else if (count > 1) {
-            state.dataMap.put(jsonObject, count - 1);
-        }
+        state.remove(JsonElementKey.of(getJSONObject(json)));
     }
 
-    private JSONObject getJSONObject(Object json) {
-        JSONObject jsonObject;
+    private Map getJSONObject(Object json) {
+        Object jsonObject;
         if (json instanceof JSONObject) {
-            try {
-                jsonObject = (JSONObject) json;
-            } catch (ClassCastException e) {
-                throw new SiddhiAppRuntimeException(siddhiQueryContext.getSiddhiAppContext().getName() + ":" +
-                        siddhiQueryContext.getName() +
-                        ": Provided value is not a valid JSON object." + json, e);
-            }
+            jsonObject = json;
         } else if (json instanceof Map) {
-            JSONParser jsonParser = new JSONParser(MODE_JSON_SIMPLE);
+            metrics.parsed(json);
             try {
-                jsonObject = (JSONObject) jsonParser.parse(gson.toJson(json));
-            } catch (ParseException e) {
+                jsonObject = engine.parse(engine.toJson(json));
+            } catch (InvalidJsonException e) {
                 throw new SiddhiAppRuntimeException(siddhiQueryContext.getSiddhiAppContext().getName() + ":" +
                         siddhiQueryContext.getName() +
                         ": Cannot parse the given json map into JSONObject." + json, e);
             }
         } else if (json == null) {
-            jsonObject = null;
+            return null;
         } else {
-            JSONParser jsonParser = new JSONParser(MODE_JSON_SIMPLE);
+            metrics.parsed(json);
             try {
-                jsonObject = (JSONObject) jsonParser.parse(json.toString());
-            } catch (ParseException e) {
+                jsonObject = JsonUtils.isBinary(json) ? JsonUtils.parseBinary(json, engine) :
+                        engine.parse(json.toString());
+            } catch (InvalidJsonException e) {
                 throw new SiddhiAppRuntimeException(siddhiQueryContext.getSiddhiAppContext().getName() + ":" +
                         siddhiQueryContext.getName() +
                         ": Cannot parse the given json into JSONObject." + json, e);
             }
         }
-        return jsonObject;
+        if (!(jsonObject instanceof Map)) {
+            throw new SiddhiAppRuntimeException(siddhiQueryContext.getSiddhiAppContext().getName() + ":" +
+                    siddhiQueryContext.getName() +
+                    ": Provided value is not a valid JSON object." + json);
+        }
+        return (Map) jsonObject;
     }
 
-    private String constructJSONString(String enclosingElement, boolean isDistinct, ExtensionState state) {
-        JSONArray jsonArray = new JSONArray();
-        if (!isDistinct) {
-            for (Map.Entry<Object, Integer> entry : state.dataMap.entrySet()) {
-                for (int i = 0; i < entry.getValue(); i++) {
-                    jsonArray.add(entry.getKey());
-                }
-            }
-        } else {
-            jsonArray.addAll(state.dataMap.keySet());
+    private Object constructJSONString(String enclosingElement, boolean isDistinct, ExtensionState state) {
+        if (binary) {
+            return constructJSONBytes(enclosingElement, isDistinct, state);
         }
-
+        String jsonArray = state.getJSONArrayString(isDistinct);
         if (enclosingElement != null) {
-            JSONObject jsonObject = new JSONObject();
-            jsonObject.put(enclosingElement, jsonArray);
-            return jsonObject.toJSONString();
+            return "{" + JsonSerializer.toJSONString(enclosingElement) + ":" + jsonArray + "}";
         }
+        return jsonArray;
+    }
 
-        return jsonArray.toJSONString();
+    private byte[] constructJSONBytes(String enclosingElement, boolean isDistinct, ExtensionState state) {
+        byte[] jsonArray = state.getJSONArrayBytes(isDistinct);
+        if (enclosingElement == null) {
+            // The cached bytes are copied, as the returned array can be modified by the consumers of the event.
+            return jsonArray.clone();
+        }
+        byte[] prefix = JsonSerializer.toUtf8("{" + JsonSerializer.toJSONString(enclosingElement) + ":");
+        byte[] result = Arrays.copyOf(prefix, prefix.length + jsonArray.length + 1);
+        System.arraycopy(jsonArray, 0, result, prefix.length, jsonArray.length);
+        result[result.length - 1] = '}';
+        return result;
     }
 
+    /**
+     * State of the aggregator. Each distinct element is serialized only once when it is first added, and the
+     * aggregated array is built by concatenating those serialized elements, only when the elements have changed
+     * since the last call. The elements are counted under {@link JsonElementKey}s, whose fingerprints are computed
+     * only once per added or removed element, and the state is persisted in the format of
+     * {@link JsonGroupSnapshotCodec}, encoded again only when the elements have changed since the last snapshot.
+     * For json:groupAsBytes, the UTF-8 encoding of the aggregated array is cached instead of the string.
+     */
     static class ExtensionState extends State {
 
-        private final Map<String, Object> state = new HashMap<>();
-        private Map<Object, Integer> dataMap = new LinkedHashMap<>();
+        private final boolean compressSnapshots;
+        private final JsonEngine engine;
+        private Map<JsonElementKey, Integer> dataMap = new LinkedHashMap<>();
+        private byte[] snapshot;
+        private Map<JsonElementKey, String> serializedElements = new HashMap<>();
+        private String jsonArray;
+        private String distinctJSONArray;
+        private byte[] jsonArrayBytes;
+        private byte[] distinctJSONArrayBytes;
+
+        private ExtensionState(boolean compressSnapshots, JsonEngine engine) {
+            this.compressSnapshots = compressSnapshots;
+            this.engine = engine;
+        }
+
+        private void add(JsonElementKey element) {
+            Integer count = dataMap.get(element);
+            if (count == null) {
+                dataMap.put(element, 1);
+                distinctJSONArray = null;
+                distinctJSONArrayBytes = null;
+            } else {
+                dataMap.put(element, count + 1);
+            }
+            snapshot = null;
+            jsonArray = null;
+            jsonArrayBytes = null;
+        }
+
+        private void remove(JsonElementKey element) {
+            Integer count = dataMap.get(element);
+            if (count == null) {
+                return;
+            }
+            if (count == 1) {
+                dataMap.remove(element);
+                serializedElements.remove(element);
+                distinctJSONArray = null;
+                distinctJSONArrayBytes = null;
+            } else {
+                dataMap.put(element, count - 1);
+            }
+            snapshot = null;
+            jsonArray = null;
+            jsonArrayBytes = null;
+        }
+
+        private void clear() {
+            dataMap.clear();
+            snapshot = null;
+            serializedElements.clear();
+            jsonArray = null;
+            jsonArrayBytes = null;
+            distinctJSONArray = null;
+            distinctJSONArrayBytes = null;
+        }
+
+        private String getJSONArrayString(boolean isDistinct) {
+            if (isDistinct) {
+                if (distinctJSONArray == null) {
+                    distinctJSONArray = buildJSONArrayString(true);
+                }
+                return distinctJSONArray;
+            }
+            if (jsonArray == null) {
+                jsonArray = buildJSONArrayString(false);
+            }
+            return jsonArray;
+        }
+
+        private byte[] getJSONArrayBytes(boolean isDistinct) {
+            if (isDistinct) {
+                if (distinctJSONArrayBytes == null) {
+                    distinctJSONArrayBytes = buildJSONArrayBytes(true);
+                }
+                return distinctJSONArrayBytes;
+            }
+            if (jsonArrayBytes == null) {
+                jsonArrayBytes = buildJSONArrayBytes(false);
+            }
+            return jsonArrayBytes;
+        }
 
-        private ExtensionState() {
-            state.put(KEY_DATA_MAP, dataMap);
+        private String buildJSONArrayString(boolean isDistinct) {
+            StringBuilder builder = JsonSerializer.acquireBuffer();
+            try {
+                return appendJSONArray(builder, isDistinct).toString();
+            } finally {
+                JsonSerializer.releaseBuffer(builder);
+            }
+        }
+
+        private byte[] buildJSONArrayBytes(boolean isDistinct) {
+            StringBuilder builder = JsonSerializer.acquireBuffer();
+            try {
+                return JsonSerializer.toUtf8(appendJSONArray(builder, isDistinct));
+            } finally {
+                JsonSerializer.releaseBuffer(builder);
+            }
+        }
+
+        private StringBuilder appendJSONArray(StringBuilder builder, boolean isDistinct) {
+            builder.append('[');
+            boolean first = true;
+            for (Map.Entry<JsonElementKey, Integer> entry : dataMap.entrySet()) {
+                String element = serialize(entry.getKey());
+                int count = isDistinct ? 1 : entry.getValue();
+                for (int i = 0; i < count; i++) {
+                    if (!first) {
+                        builder.append(',');
+                    }
+                    builder.append(element);
+                    first = false;
+                }
+            }
+            return builder.append(']');
+        }
+
+        private String serialize(JsonElementKey key) {
+            return serializedElements.computeIfAbsent(key,
+                    element -> JsonSerializer.toJSONString(element.getElement()));
         }
 
         @Override
@@ -273,12 +461,34 @@ public class GroupAggregatorFunctionExtension
 
         @Override
         public Map<String, Object> snapshot() {
+            if (snapshot == null) {
+                snapshot = JsonGroupSnapshotCodec.encode(dataMap, compressSnapshots, this::serialize);
+            }
+            Map<String, Object> state = new HashMap<>();
+            state.put(KEY_SNAPSHOT, snapshot);
             return state;
         }
 
         @Override
         public void restore(Map<String, Object> map) {
-            dataMap = (Map<Object, Integer>) map.get(KEY_DATA_MAP);
+            byte[] restoredSnapshot = (byte[]) map.get(KEY_SNAPSHOT);
+            if (restoredSnapshot != null) {
+                dataMap = JsonGroupSnapshotCodec.decode(restoredSnapshot, engine);
+            } else {
+                // Snapshots taken by earlier versions hold the element counts as they are.
+                dataMap = new LinkedHashMap<>();
+                for (Map.Entry<Object, Integer> entry : ((Map<Object, Integer>) map.get(KEY_DATA_MAP)).entrySet()) {
+                    JsonElementKey key = entry.getKey() instanceof JsonElementKey ?
+                            (JsonElementKey) entry.getKey() : JsonElementKey.of(entry.getKey());
+                    dataMap.merge(key, entry.getValue(), Integer::sum);
+                }
+            }
+            snapshot = restoredSnapshot;
+            serializedElements = new HashMap<>();
+            jsonArray = null;
+            jsonArrayBytes = null;
+            distinctJSONArray = null;
+            distinctJSONArrayBytes = null;
         }
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.function;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+
+/**
+ * groupAsBytes(json, enclosing.element, distinct)
+ * Returns the UTF-8 encoded JSON object by merging all JSON elements if enclosing element is provided.
+ * Returns the UTF-8 encoded JSON array by adding all JSON elements if enclosing element is not provided
+ */
+@Extension(
+        name = "groupAsBytes",
+        namespace = "json",
+        description = "This function aggregates the JSON elements the same as `json:group`, and returns the " +
+                "resulting JSON object or array as UTF-8 encoded bytes, without creating the JSON string first.",
+        parameters = {
+                @Parameter(name = "json",
+                        description = "The JSON element that needs to be aggregated. UTF-8 encoded JSON can also be " +
+                                "given as a `byte[]` or a `ByteBuffer` object.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(name = "enclosing.element",
+                        description = "The JSON element used to enclose the aggregated JSON elements.",
+                        type = {DataType.STRING}, optional = true, defaultValue = "EMPTY_STRING", dynamic = true),
+                @Parameter(name = "distinct",
+                        description = "This is used to only have distinct JSON elements in the concatenated " +
+                                "JSON object/array that is returned.",
+                        type = {DataType.BOOL}, optional = true, defaultValue = "false", dynamic = true)
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"json"}),
+                @ParameterOverload(parameterNames = {"json", "distinct"}),
+                @ParameterOverload(parameterNames = {"json", "enclosing.element"}),
+                @ParameterOverload(parameterNames = {"json", "enclosing.element", "distinct"})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "This returns the UTF-8 encoded JSON object as a `byte[]` if enclosing element is " +
+                        "provided. If there is no enclosing element then it returns the UTF-8 encoded JSON array.",
+                type = {DataType.OBJECT}),
+        systemParameter = {
+                @SystemParameter(
+                        name = "snapshot.compression",
+                        description = "If this is set to `true`, the aggregated JSON elements are compressed when " +
+                                "the state of the aggregator is persisted.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(
+                        name = "engine",
+                        description = "The JSON library used to parse the aggregated JSON elements, which is one " +
+                                "of `json-smart`, `gson` and `jackson`.",
+                        defaultValue = "json-smart",
+                        possibleParameters = {"json-smart", "gson", "jackson"})
+        },
+        examples = {
+                @Example(
+                        syntax = "from InputStream#window.length(5)\n" +
+                                "select json:groupAsBytes(\"json\") as groupedJSONArray\n" +
+                                "input OutputStream;",
+                        description = "When we input events having values for the `json` as " +
+                                "`{\"date\":\"2013-11-19\",\"time\":\"10:30\"}` and " +
+                                "`{\"date\":\"2013-11-19\",\"time\":\"12:20\"}`, it returns the UTF-8 encoded " +
+                                "bytes of `[{\"date\":\"2013-11-19\",\"time\":\"10:30\"}," +
+                                "{\"date\":\"2013-11-19\",\"time\":\"12:20\"}]` to the 'OutputStream'."),
+                @Example(
+                        syntax = "from InputStream#window.length(5)\n" +
+                                "select json:groupAsBytes(\"json\", \"result\", true) as groupedJSONArray\n" +
+                                "input OutputStream;",
+                        description = "When we input events having values for the `json` as " +
+                                "`{\"date\":\"2013-11-19\",\"time\":\"10:30\"}` and " +
+                                "`{\"date\":\"2013-11-19\",\"time\":\"10:30\"}`, it returns the UTF-8 encoded " +
+                                "bytes of `{\"result\":[{\"date\":\"2013-11-19\",\"time\":\"10:30\"}]}` " +
+                                "to the 'OutputStream'.")
+        }
+)
+public class GroupAsBytesAggregatorFunctionExtension extends GroupAggregatorFunctionExtension {
+    private static final long serialVersionUID = 1L;
+
+    public GroupAsBytesAggregatorFunctionExtension() {
+        super("json:groupAsBytes", true);
+    }
+}
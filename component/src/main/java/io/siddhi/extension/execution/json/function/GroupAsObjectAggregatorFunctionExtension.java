@@ -18,13 +18,13 @@
 
 package io.siddhi.extension.execution.json.function;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.jayway.jsonpath.InvalidJsonException;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ParameterOverload;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -34,18 +34,25 @@ import io.siddhi.core.query.selector.attribute.aggregator.AttributeAggregatorExe
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonElementKey;
+import io.siddhi.extension.execution.json.util.JsonEngine;
+import io.siddhi.extension.execution.json.util.JsonEngines;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonGroupSnapshotCodec;
+import io.siddhi.extension.execution.json.util.JsonSerializer;
+import io.siddhi.extension.execution.json.util.JsonUtils;
+import io.siddhi.extension.execution.json.util.ReadOnlyJSONArray;
 import io.siddhi.query.api.definition.Attribute;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
-import net.minidev.json.parser.ParseException;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.siddhi.query.api.definition.Attribute.Type.OBJECT;
-import static net.minidev.json.parser.JSONParser.MODE_JSON_SIMPLE;
 
 /**
  * groupAsObject(json, enclosing.element, distinct)
@@ -60,7 +67,8 @@ import static net.minidev.json.parser.JSONParser.MODE_JSON_SIMPLE;
                 "elements returns a JSON array.",
         parameters = {
                 @Parameter(name = "json",
-                        description = "The JSON element that needs to be aggregated.",
+                        description = "The JSON element that needs to be aggregated. UTF-8 encoded JSON can also be " +
+                                "given as a `byte[]` or a `ByteBuffer` object.",
                         type = {DataType.STRING, DataType.OBJECT},
                         dynamic = true),
                 @Parameter(name = "enclosing.element",
@@ -81,6 +89,20 @@ import static net.minidev.json.parser.JSONParser.MODE_JSON_SIMPLE;
                 description = "This returns a JSON object if enclosing element is provided. If there is no enclosing " +
                         "element then it returns a JSON array.",
                 type = {DataType.OBJECT}),
+        systemParameter = {
+                @SystemParameter(
+                        name = "snapshot.compression",
+                        description = "If this is set to `true`, the aggregated JSON elements are compressed when " +
+                                "the state of the aggregator is persisted.",
+                        defaultValue = "false",
+                        possibleParameters = {"true", "false"}),
+                @SystemParameter(
+                        name = "engine",
+                        description = "The JSON library used to parse the aggregated JSON elements, which is one " +
+                                "of `json-smart`, `gson` and `jackson`.",
+                        defaultValue = "json-smart",
+                        possibleParameters = {"json-smart", "gson", "jackson"})
+        },
         examples = {
                 @Example(
                         syntax = "from InputStream#window.length(5)\n" +
@@ -125,9 +147,11 @@ public class GroupAsObjectAggregatorFunctionExtension
 
     private static final long serialVersionUID = 1L;
     private static final String KEY_DATA_MAP = "dataMap";
-    private Map<Object, Integer> dataMap = new LinkedHashMap<>();
+    private static final String KEY_SNAPSHOT = "snapshot";
     private SiddhiQueryContext siddhiQueryContext;
-    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private JsonFunctionMetrics metrics;
+    private boolean compressSnapshots;
+    private JsonEngine engine;
 
     @Override
     protected StateFactory<ExtensionState> init(ExpressionExecutor[] expressionExecutors,
@@ -136,36 +160,67 @@ public class GroupAsObjectAggregatorFunctionExtension
                                                 ConfigReader configReader,
                                                 SiddhiQueryContext siddhiQueryContext) {
         this.siddhiQueryContext = siddhiQueryContext;
-        return () -> new ExtensionState();
+        this.metrics = new JsonFunctionMetrics("json:groupAsObject", siddhiQueryContext);
+        this.compressSnapshots = JsonGroupSnapshotCodec.readCompression(configReader);
+        this.engine = JsonEngines.read(configReader, "json:groupAsObject", false);
+        return () -> new ExtensionState(compressSnapshots, engine);
     }
 
     @Override
     public Object processAdd(Object o, ExtensionState extensionState) {
-        addJSONElement(o);
-        return constructJSONObject(null, false);
+        boolean tracked = metrics.markIn();
+        try {
+            addJSONElement(o, extensionState);
+            return constructJSONObject(null, false, extensionState);
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
     }
 
     @Override
     public Object processAdd(Object[] objects, ExtensionState extensionState) {
-        addJSONElement(objects[0]);
-        return processJSONObject(objects);
+        boolean tracked = metrics.markIn();
+        try {
+            addJSONElement(objects[0], extensionState);
+            return processJSONObject(objects, extensionState);
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
     }
 
     @Override
     public Object processRemove(Object o, ExtensionState extensionState) {
-        removeJSONElement(o);
-        return constructJSONObject(null, false);
+        boolean tracked = metrics.markIn();
+        try {
+            removeJSONElement(o, extensionState);
+            return constructJSONObject(null, false, extensionState);
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
     }
 
     @Override
     public Object processRemove(Object[] objects, ExtensionState extensionState) {
-        removeJSONElement(objects[0]);
-        return processJSONObject(objects);
+        boolean tracked = metrics.markIn();
+        try {
+            removeJSONElement(objects[0], extensionState);
+            return processJSONObject(objects, extensionState);
+        } finally {
+            if (tracked) {
+                metrics.markOut();
+            }
+        }
     }
 
     @Override
     public Object reset(ExtensionState extensionState) {
-        dataMap.clear();
+        extensionState.clear();
         return null;
     }
 
@@ -174,92 +229,177 @@ public class GroupAsObjectAggregatorFunctionExtension
         return OBJECT;
     }
 
-    private Object processJSONObject(Object[] objects) {
+    private Object processJSONObject(Object[] objects, ExtensionState extensionState) {
         if (objects.length == 3) {
-            return constructJSONObject(objects[1].toString(), Boolean.parseBoolean(objects[2].toString()));
+            return constructJSONObject(objects[1].toString(), Boolean.parseBoolean(objects[2].toString()),
+                    extensionState);
         } else {
             if (objects[1] instanceof Boolean) {
-                return constructJSONObject(null, Boolean.parseBoolean(objects[1].toString()));
+                return constructJSONObject(null, Boolean.parseBoolean(objects[1].toString()), extensionState);
             } else {
-                return constructJSONObject(objects[1].toString(), false);
+                return constructJSONObject(objects[1].toString(), false, extensionState);
             }
         }
     }
 
-    private void addJSONElement(Object json) {
-        JSONObject jsonObject = getJSONObject(json);
-        Integer count = dataMap.get(jsonObject);
-        dataMap.put(jsonObject, (count == null) ? 1 : count + 1);
+    private void addJSONElement(Object json, ExtensionState extensionState) {
+        extensionState.add(JsonElementKey.of(getJSONObject(json)));
     }
 
-    private void removeJSONElement(Object json) {
-        JSONObject jsonObject = getJSONObject(json);
-        Integer count = dataMap.get(jsonObject);
-        if (count == 1) {
-            dataMap.remove(jsonObject);
-        } else if (count > 1) {
-            dataMap.put(jsonObject, count - 1);
-        }
+    private void removeJSONElement(Object json, ExtensionState extensionState) {
+        extensionState.remove(JsonElementKey.of(getJSONObject(json)));
     }
 
-    private JSONObject getJSONObject(Object json) {
-        JSONObject jsonObject;
+    private Map getJSONObject(Object json) {
+        Object jsonObject;
         if (json instanceof JSONObject) {
-            try {
-                jsonObject = (JSONObject) json;
-            } catch (ClassCastException e) {
-                throw new SiddhiAppRuntimeException(siddhiQueryContext.getSiddhiAppContext().getName() + ":" +
-                        siddhiQueryContext.getName() +
-                        ": Provided value is not a valid JSON object." + json, e);
-            }
+            jsonObject = json;
         } else if (json instanceof Map) {
-            JSONParser jsonParser = new JSONParser(MODE_JSON_SIMPLE);
+            metrics.parsed(json);
             try {
-                jsonObject = (JSONObject) jsonParser.parse(gson.toJson(json));
-            } catch (ParseException e) {
+                jsonObject = engine.parse(engine.toJson(json));
+            } catch (InvalidJsonException e) {
                 throw new SiddhiAppRuntimeException(siddhiQueryContext.getSiddhiAppContext().getName() + ":" +
                         siddhiQueryContext.getName() +
                         ": Cannot parse the given json map into JSONObject." + json, e);
             }
         } else if (json == null) {
-            jsonObject = null;
+            return null;
         } else {
-            JSONParser jsonParser = new JSONParser(MODE_JSON_SIMPLE);
+            metrics.parsed(json);
             try {
-                jsonObject = (JSONObject) jsonParser.parse(json.toString());
-            } catch (ParseException e) {
+                jsonObject = JsonUtils.isBinary(json) ? JsonUtils.parseBinary(json, engine) :
+                        engine.parse(json.toString());
+            } catch (InvalidJsonException e) {
                 throw new SiddhiAppRuntimeException(siddhiQueryContext.getSiddhiAppContext().getName() + ":" +
                         siddhiQueryContext.getName() +
                         ": Cannot parse the given json into JSONObject." + json, e);
             }
         }
-        return jsonObject;
-    }
-
-    private Object constructJSONObject(String enclosingElement, boolean isDistinct) {
-        JSONArray jsonArray = new JSONArray();
-        if (!isDistinct) {
-            for (Map.Entry<Object, Integer> entry : dataMap.entrySet()) {
-                for (int i = 0; i < entry.getValue(); i++) {
-                    jsonArray.add(entry.getKey());
-                }
-            }
-        } else {
-            jsonArray.addAll(dataMap.keySet());
+        if (!(jsonObject instanceof Map)) {
+            throw new SiddhiAppRuntimeException(siddhiQueryContext.getSiddhiAppContext().getName() + ":" +
+                    siddhiQueryContext.getName() +
+                    ": Provided value is not a valid JSON object." + json);
         }
+        return (Map) jsonObject;
+    }
 
+    private Object constructJSONObject(String enclosingElement, boolean isDistinct, ExtensionState extensionState) {
+        JSONArray jsonArray = extensionState.toJSONArray(isDistinct);
         if (enclosingElement != null) {
             JSONObject jsonObject = new JSONObject();
             jsonObject.put(enclosingElement, jsonArray);
             return jsonObject;
         }
-
         return jsonArray;
     }
 
-    class ExtensionState extends State {
+    /**
+     * State of the aggregator, kept per partition and group-by key. The elements are held read only and counted under
+     * {@link JsonElementKey}s, whose fingerprints are computed only once per added or removed element. The aggregated
+     * arrays are kept up to date as elements are added and removed, and are handed to the downstream as
+     * {@link ReadOnlyJSONArray}s copied only after the elements have changed, so producing an output never copies the
+     * elements themselves. The state is persisted in the format of {@link JsonGroupSnapshotCodec}, encoded again only
+     * when the elements have changed since the last snapshot.
+     */
+    static class ExtensionState extends State {
+
+        private final boolean compressSnapshots;
+        private final JsonEngine engine;
+        private Map<JsonElementKey, Integer> dataMap = new LinkedHashMap<>();
+        private final List<Object> elements = new ArrayList<>();
+        private final List<Object> distinctElements = new ArrayList<>();
+        private JSONArray output;
+        private JSONArray distinctOutput;
+        private byte[] snapshot;
 
-        private final Map<String, Object> state = new HashMap<>();
+        private ExtensionState(boolean compressSnapshots, JsonEngine engine) {
+            this.compressSnapshots = compressSnapshots;
+            this.engine = engine;
+        }
+
+        private void add(JsonElementKey element) {
+            Integer count = dataMap.get(element);
+            if (count == null) {
+                JsonElementKey key = element.withElement(JsonUtils.toReadOnly(element.getElement()));
+                dataMap.put(key, 1);
+                elements.add(key.getElement());
+                distinctElements.add(key.getElement());
+                distinctOutput = null;
+            } else {
+                // Equal elements are kept next to each other, after the first one added.
+                int offset = 0;
+                for (Map.Entry<JsonElementKey, Integer> entry : dataMap.entrySet()) {
+                    offset += entry.getValue();
+                    if (entry.getKey().equals(element)) {
+                        elements.add(offset, elements.get(offset - 1));
+                        break;
+                    }
+                }
+                dataMap.put(element, count + 1);
+            }
+            output = null;
+            snapshot = null;
+        }
+
+        private void remove(JsonElementKey element) {
+            Integer count = dataMap.get(element);
+            if (count == null) {
+                return;
+            }
+            int offset = 0;
+            int index = 0;
+            for (Map.Entry<JsonElementKey, Integer> entry : dataMap.entrySet()) {
+                if (entry.getKey().equals(element)) {
+                    break;
+                }
+                offset += entry.getValue();
+                index++;
+            }
+            elements.remove(offset);
+            if (count == 1) {
+                dataMap.remove(element);
+                distinctElements.remove(index);
+                distinctOutput = null;
+            } else {
+                dataMap.put(element, count - 1);
+            }
+            output = null;
+            snapshot = null;
+        }
+
+        private void clear() {
+            dataMap.clear();
+            rebuild();
+            snapshot = null;
+        }
+
+        private void rebuild() {
+            elements.clear();
+            distinctElements.clear();
+            for (Map.Entry<JsonElementKey, Integer> entry : dataMap.entrySet()) {
+                Object element = entry.getKey().getElement();
+                for (int i = 0; i < entry.getValue(); i++) {
+                    elements.add(element);
+                }
+                distinctElements.add(element);
+            }
+            output = null;
+            distinctOutput = null;
+        }
+
+        private JSONArray toJSONArray(boolean isDistinct) {
+            if (isDistinct) {
+                if (distinctOutput == null) {
+                    distinctOutput = new ReadOnlyJSONArray(distinctElements);
+                }
+                return distinctOutput;
+            }
+            if (output == null) {
+                output = new ReadOnlyJSONArray(elements);
+            }
+            return output;
+        }
 
         @Override
         public boolean canDestroy() {
@@ -268,16 +408,36 @@ public class GroupAsObjectAggregatorFunctionExtension
 
         @Override
         public Map<String, Object> snapshot() {
+            if (snapshot == null) {
+                snapshot = JsonGroupSnapshotCodec.encode(dataMap, compressSnapshots);
+            }
+            Map<String, Object> state = new HashMap<>();
+            state.put(KEY_SNAPSHOT, snapshot);
             return state;
         }
 
         @Override
         public void restore(Map<String, Object> map) {
-            dataMap = (Map<Object, Integer>) map.get(KEY_DATA_MAP);
-        }
-
-        private ExtensionState() {
-            state.put(KEY_DATA_MAP, dataMap);
+            byte[] restoredSnapshot = (byte[]) map.get(KEY_SNAPSHOT);
+            if (restoredSnapshot != null) {
+                dataMap = JsonGroupSnapshotCodec.decode(restoredSnapshot, engine);
+            } else {
+                // Snapshots taken by earlier versions hold the element counts as they are.
+                dataMap = new LinkedHashMap<>();
+                for (Map.Entry<Object, Integer> entry : ((Map<Object, Integer>) map.get(KEY_DATA_MAP)).entrySet()) {
+                    JsonElementKey key = entry.getKey() instanceof JsonElementKey ?
+                            (JsonElementKey) entry.getKey() : JsonElementKey.of(entry.getKey());
+                    dataMap.merge(key, entry.getValue(), Integer::sum);
+                }
+            }
+            Map<JsonElementKey, Integer> readOnlyDataMap = new LinkedHashMap<>();
+            for (Map.Entry<JsonElementKey, Integer> entry : dataMap.entrySet()) {
+                JsonElementKey key = entry.getKey();
+                readOnlyDataMap.put(key.withElement(JsonUtils.toReadOnly(key.getElement())), entry.getValue());
+            }
+            dataMap = readOnlyDataMap;
+            rebuild();
+            snapshot = restoredSnapshot;
         }
     }
 }
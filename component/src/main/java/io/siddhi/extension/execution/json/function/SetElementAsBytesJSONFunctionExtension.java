@@ -0,0 +1,99 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.function;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+
+/**
+ * This class provides implementation for inserting values to the given json using the path specified, returning the
+ * modified json as UTF-8 encoded bytes.
+ */
+@Extension(
+        name = "setElementAsBytes",
+        namespace = "json",
+        description = "Function sets JSON element into a given JSON at the specific path, and returns the " +
+                "modified JSON as UTF-8 encoded bytes. This is the same as `json:toBytes(json:setElement(...))`, " +
+                "without serializing the modified JSON into an intermediate string.",
+        parameters = {
+                @Parameter(
+                        name = "json",
+                        description = "The JSON to which a JSON element needs to be added/replaced. " +
+                                "UTF-8 encoded JSON can also be given as a `byte[]` or a `ByteBuffer` object.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(
+                        name = "path",
+                        description = "The JSON path where the JSON element should be added/replaced.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(
+                        name = "json.element",
+                        description = "The JSON element being added.",
+                        type = {DataType.STRING, DataType.BOOL, DataType.DOUBLE, DataType.FLOAT, DataType.INT,
+                                DataType.LONG, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(
+                        name = "key",
+                        description = "The key to be used to refer the newly added element in the input JSON.",
+                        type = {DataType.STRING},
+                        dynamic = true,
+                        defaultValue = "Assumes the element is added to a JSON array, or the element selected " +
+                                "by the JSON path will be updated.",
+                        optional = true)
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"json", "path", "json.element"}),
+                @ParameterOverload(parameterNames = {"json", "path", "json.element", "key"})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "Returns the UTF-8 encoded modified JSON with the inserted elements as a " +
+                        "`byte[]`. If there are no valid path given, it returns the original JSON with modification.",
+                type = {DataType.OBJECT}),
+        examples = {
+                @Example(
+                        syntax = "json:setElementAsBytes(json, '$', 40, 'age')",
+                        description = "If the `json` is the format `{'name' : 'John', 'married' : true}`, the " +
+                                "function returns the UTF-8 encoded bytes of `{'name' : 'John', 'married' : true, " +
+                                "'age' : 40}` by adding 'age' element to the `json`."),
+                @Example(
+                        syntax = "json:setElementAsBytes(json, '$.items', 'book')",
+                        description = "If the `json` is the format `{'name' : 'Stationary', 'items' : " +
+                                "['pen', 'pencil']}`, the function returns the UTF-8 encoded bytes of " +
+                                "`{'name' : 'Stationary', 'items' : ['pen', 'pencil', 'book']}` by adding 'book' " +
+                                "in the items array."),
+                @Example(
+                        syntax = "json:setElementAsBytes(json, '$.address', 'city', 'SF')",
+                        description = "If the `json` is the format `{'name' : 'John', 'married' : true}`, the " +
+                                "function will not update, but returns the UTF-8 encoded bytes of the original " +
+                                "JSON as there are no valid path for `$.address`."),
+        }
+)
+public class SetElementAsBytesJSONFunctionExtension extends SetElementJSONFunctionExtension {
+    private static final long serialVersionUID = 1L;
+
+    public SetElementAsBytesJSONFunctionExtension() {
+        super("json:setElementAsBytes", true);
+    }
+}
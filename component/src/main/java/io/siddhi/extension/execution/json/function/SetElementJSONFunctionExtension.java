@@ -18,13 +18,9 @@
 
 package io.siddhi.extension.execution.json.function;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
-import com.jayway.jsonpath.InvalidModificationException;
 import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.PathNotFoundException;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
@@ -38,14 +34,17 @@ import io.siddhi.core.executor.function.FunctionExecutor;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonDiagnostics;
+import io.siddhi.extension.execution.json.util.JsonElementSetter;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonPathEvaluator;
+import io.siddhi.extension.execution.json.util.JsonSerializer;
+import io.siddhi.extension.execution.json.util.JsonUtils;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.List;
-import java.util.Map;
-
 
 /**
  * This class provides implementation for inserting values to the given json using the path specified.
@@ -57,7 +56,8 @@ import java.util.Map;
         parameters = {
                 @Parameter(
                         name = "json",
-                        description = "The JSON to which a JSON element needs to be added/replaced.",
+                        description = "The JSON to which a JSON element needs to be added/replaced. " +
+                                "UTF-8 encoded JSON can also be given as a `byte[]` or a `ByteBuffer` object.",
                         type = {DataType.STRING, DataType.OBJECT},
                         dynamic = true),
                 @Parameter(
@@ -128,7 +128,25 @@ import java.util.Map;
 public class SetElementJSONFunctionExtension extends FunctionExecutor {
     private static final long serialVersionUID = 1L;
     private static final Logger log = LogManager.getLogger(SetElementJSONFunctionExtension.class);
-    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private JsonDiagnostics diagnostics;
+    private JsonFunctionMetrics metrics;
+    private JsonPathEvaluator jsonPathEvaluator;
+    private JsonElementSetter elementSetter;
+    private final String functionName;
+    private final boolean binary;
+
+    public SetElementJSONFunctionExtension() {
+        this("json:setElement", false);
+    }
+
+    /**
+     * @param functionName the name of the function used in messages and metrics, i.e. 'json:setElement'
+     * @param binary       whether the modified JSON is returned as UTF-8 encoded bytes
+     */
+    protected SetElementJSONFunctionExtension(String functionName, boolean binary) {
+        this.functionName = functionName;
+        this.binary = binary;
+    }
 
     /**
      * The initialization method for {@link FunctionExecutor}, which will be called before other methods and validate
@@ -144,47 +162,52 @@ public class SetElementJSONFunctionExtension extends FunctionExecutor {
         if (attributeExpressionExecutors.length == 4 || attributeExpressionExecutors.length == 3) {
             if (attributeExpressionExecutors[0] == null) {
                 throw new SiddhiAppValidationException("Invalid input given to first argument 'json' of " +
-                        "json:setElement() function. Input for 'json' argument cannot be null");
+                        functionName + "() function. Input for 'json' argument cannot be null");
             }
             Attribute.Type inputJsonAttributeType = attributeExpressionExecutors[0].getReturnType();
             if (!(inputJsonAttributeType == Attribute.Type.STRING || inputJsonAttributeType == Attribute.Type.OBJECT)) {
                 throw new SiddhiAppValidationException("Invalid parameter type found for first argument 'json' of " +
-                        "json:setElement() function, required " + Attribute.Type.STRING + " or " + Attribute.Type
+                        functionName + "() function, required " + Attribute.Type.STRING + " or " + Attribute.Type
                         .OBJECT + ", but found " + inputJsonAttributeType.toString());
             }
 
             if (attributeExpressionExecutors[1] == null) {
                 throw new SiddhiAppValidationException("Invalid input given to second argument 'path' of " +
-                        "json:setElement() function. Input 'path' argument cannot be null");
+                        functionName + "() function. Input 'path' argument cannot be null");
             }
             Attribute.Type pathAttributeType = attributeExpressionExecutors[1].getReturnType();
             if (pathAttributeType != Attribute.Type.STRING) {
                 throw new SiddhiAppValidationException("Invalid parameter type found for second argument 'path' of " +
-                        "json:setElement() function, required " + Attribute.Type.STRING + ", but found " +
+                        functionName + "() function, required " + Attribute.Type.STRING + ", but found " +
                         pathAttributeType.toString());
             }
 
             if (attributeExpressionExecutors[2] == null) {
                 throw new SiddhiAppValidationException("Invalid input given to third argument 'json.element' of " +
-                        "json:setElement() function. Input 'json.element' argument cannot be null");
+                        functionName + "() function. Input 'json.element' argument cannot be null");
             }
 
             if (attributeExpressionExecutors.length == 4) {
                 if (attributeExpressionExecutors[3] == null) {
                     throw new SiddhiAppValidationException("Invalid input given to fourth argument " +
-                            "'key' of json:setElement() function, argument cannot be null");
+                            "'key' of " + functionName + "() function, argument cannot be null");
                 }
                 Attribute.Type keyAttributeType = attributeExpressionExecutors[3].getReturnType();
                 if (!(keyAttributeType == Attribute.Type.STRING)) {
                     throw new SiddhiAppValidationException("Invalid parameter type found for fourth argument " +
-                            "'key'" + " of json:setElement() function, required " + Attribute.Type.STRING + ", " +
+                            "'key'" + " of " + functionName + "() function, required " + Attribute.Type.STRING + ", " +
                             "but found " + keyAttributeType.toString());
                 }
             }
         } else {
-            throw new SiddhiAppValidationException("Invalid no of arguments passed to json:setElement() function, "
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to " + functionName + "() function, "
                     + "required 3 or 4, but found " + attributeExpressionExecutors.length);
         }
+        metrics = new JsonFunctionMetrics(functionName, siddhiQueryContext);
+        jsonPathEvaluator = new JsonPathEvaluator(attributeExpressionExecutors[1], configReader, functionName,
+                false, metrics);
+        diagnostics = new JsonDiagnostics(log, functionName, configReader, siddhiQueryContext, metrics);
+        elementSetter = new JsonElementSetter(diagnostics);
         return null;
     }
 
@@ -197,57 +220,36 @@ public class SetElementJSONFunctionExtension extends FunctionExecutor {
      */
     @Override
     protected Object execute(Object[] data, State state) {
-        String jsonInput;
-        if (data[0] instanceof String) {
-            jsonInput = (String) data[0];
-        } else {
-            jsonInput = gson.toJson(data[0]);
+        if (!metrics.markIn()) {
+            return setElement(data);
         }
+        try {
+            return setElement(data);
+        } finally {
+            metrics.markOut();
+        }
+    }
+
+    private Object setElement(Object[] data) {
+        Object jsonInput = data[0];
         String path = data[1].toString();
         Object jsonElement = data[2];
         String key = null;
         if (data.length == 4) {
             key = data[3].toString();
         }
-        DocumentContext documentContext = JsonPath.parse(jsonInput);
-        Object object = null;
+        DocumentContext documentContext;
+        metrics.parsed(jsonInput);
         try {
-            object = JsonPath.read(jsonInput, path);
-        } catch (PathNotFoundException e) {
-            log.warn(siddhiQueryContext.getSiddhiAppContext().getName() + ":" + siddhiQueryContext.getName() +
-                    ": The path '" + path + "' is not a valid path for the json '" + jsonInput +
-                    "'. Please provide a valid path.");
+            documentContext = JsonPath.parse(JsonUtils.toModifiableDocument(jsonInput,
+                    jsonPathEvaluator.getEngine()));
         } catch (InvalidJsonException e) {
-            throw new SiddhiAppRuntimeException("The input JSON is not a valid JSON. Input JSON - " + jsonInput, e);
+            diagnostics.report(JsonDiagnostics.Condition.INVALID_JSON, path);
+            throw new SiddhiAppRuntimeException("The input JSON is not a valid JSON. Input JSON - " +
+                    JsonUtils.describe(jsonInput), e);
         }
-        if (object instanceof List) {
-            try {
-                Object parsedJsonElement = gson.fromJson(jsonElement.toString(), Object.class);
-                if (jsonElement instanceof String && (parsedJsonElement instanceof Map
-                        || parsedJsonElement instanceof List)) {
-                    documentContext.add(path, gson.fromJson(jsonElement.toString(), Object.class));
-                } else {
-                    documentContext.add(path, jsonElement);
-                }
-            } catch (InvalidModificationException e) {
-                log.warn(siddhiQueryContext.getSiddhiAppContext().getName() + ":" + siddhiQueryContext.getName() +
-                        ": The path '" + path + "' is not a valid path for the json '" + jsonInput + "'. Please " +
-                        "provide a valid path.");
-            }
-        } else {
-            if (key != null) {
-                Object parsedJsonElement = gson.fromJson(jsonElement.toString(), Object.class);
-                if (jsonElement instanceof String && (parsedJsonElement instanceof Map
-                        || parsedJsonElement instanceof List)) {
-                    documentContext.put(path, key, gson.fromJson(jsonElement.toString(), Object.class));
-                } else {
-                    documentContext.put(path, key, jsonElement);
-                }
-            } else {
-                documentContext.set(path, jsonElement);
-            }
-        }
-        return documentContext.json();
+        elementSetter.set(documentContext, jsonPathEvaluator.resolve(path).getJsonPath(), path, jsonElement, key);
+        return binary ? JsonSerializer.toBytes(documentContext.json()) : documentContext.json();
     }
 
     /**
@@ -263,6 +265,13 @@ public class SetElementJSONFunctionExtension extends FunctionExecutor {
         return null;
     }
 
+    /**
+     * @return the diagnostics of the conditions that made the function return default values
+     */
+    public JsonDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
     /**
      * return a Class object that represents the formal return type of the method represented by this Method object.
      *
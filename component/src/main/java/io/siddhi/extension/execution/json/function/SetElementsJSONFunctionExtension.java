@@ -0,0 +1,239 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.function;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.JsonPath;
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonDiagnostics;
+import io.siddhi.extension.execution.json.util.JsonElementSetter;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonPathEvaluator;
+import io.siddhi.extension.execution.json.util.JsonUtils;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This class provides implementation for applying several json:setElement modifications to the given json with a
+ * single parse and serialization.
+ */
+@Extension(
+        name = "setElements",
+        namespace = "json",
+        description = "Function sets several JSON elements into a given JSON, applying them in the given order to " +
+                "the same JSON. Each element is given as a 'path', 'json.element' and 'key' triple which is handled " +
+                "the same way as in json:setElement(), while the input JSON is parsed and the result is produced " +
+                "only once for all the elements.",
+        parameters = {
+                @Parameter(
+                        name = "json",
+                        description = "The JSON to which the JSON elements need to be added/replaced. " +
+                                "UTF-8 encoded JSON can also be given as a `byte[]` or a `ByteBuffer` object.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(
+                        name = "path",
+                        description = "The JSON path where the JSON element should be added/replaced.",
+                        type = {DataType.STRING},
+                        dynamic = true),
+                @Parameter(
+                        name = "json.element",
+                        description = "The JSON element being added.",
+                        type = {DataType.STRING, DataType.BOOL, DataType.DOUBLE, DataType.FLOAT, DataType.INT,
+                                DataType.LONG, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(
+                        name = "key",
+                        description = "The key to be used to refer the newly added element in the input JSON. An " +
+                                "empty key adds the element to the JSON array selected by the path, or updates the " +
+                                "element selected by the path.",
+                        type = {DataType.STRING},
+                        dynamic = true)
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"json", "path", "json.element", "key", "..."})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "Returns the modified JSON with all the inserted elements. Elements with no valid " +
+                        "path are skipped.",
+                type = {DataType.OBJECT}),
+        examples = {
+                @Example(
+                        syntax = "json:setElements(json, '$', 40, 'age', '$.items', 'book', '', '$.name', " +
+                                "'John Doe', '')",
+                        description = "If the `json` is the format `{'name' : 'John', 'items' : ['pen']}`, the " +
+                                "function returns `{'name' : 'John Doe', 'items' : ['pen', 'book'], 'age' : 40}` " +
+                                "by adding the 'age' element, adding 'book' in the items array and replacing the " +
+                                "'name' element."),
+        }
+)
+public class SetElementsJSONFunctionExtension extends FunctionExecutor {
+    private static final long serialVersionUID = 1L;
+    private static final Logger log = LogManager.getLogger(SetElementsJSONFunctionExtension.class);
+    private JsonDiagnostics diagnostics;
+    private JsonFunctionMetrics metrics;
+    private JsonPathEvaluator[] jsonPathEvaluators;
+    private JsonElementSetter elementSetter;
+
+    /**
+     * The initialization method for {@link FunctionExecutor}, which will be called before other methods and validate
+     * the all configuration and getting the initial values.
+     *
+     * @param attributeExpressionExecutors are the executors of each attributes in the Function
+     * @param configReader                 this hold the {@link FunctionExecutor} extensions configuration reader.
+     * @param siddhiQueryContext           Siddhi query context
+     */
+    @Override
+    protected StateFactory init(ExpressionExecutor[] attributeExpressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        int length = attributeExpressionExecutors.length;
+        if (length < 4 || (length - 1) % 3 != 0) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to json:setElements() function, " +
+                    "required 'json' followed by one or more 'path', 'json.element' and 'key' triples, but found " +
+                    length);
+        }
+        if (attributeExpressionExecutors[0] == null) {
+            throw new SiddhiAppValidationException("Invalid input given to first argument 'json' of " +
+                    "json:setElements() function. Input for 'json' argument cannot be null");
+        }
+        Attribute.Type inputJsonAttributeType = attributeExpressionExecutors[0].getReturnType();
+        if (!(inputJsonAttributeType == Attribute.Type.STRING || inputJsonAttributeType == Attribute.Type.OBJECT)) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for first argument 'json' of " +
+                    "json:setElements() function, required " + Attribute.Type.STRING + " or " + Attribute.Type
+                    .OBJECT + ", but found " + inputJsonAttributeType.toString());
+        }
+        metrics = new JsonFunctionMetrics("json:setElements", siddhiQueryContext);
+        jsonPathEvaluators = new JsonPathEvaluator[(length - 1) / 3];
+        for (int i = 1; i < length; i += 3) {
+            validateStringArgument(attributeExpressionExecutors[i], i, "path");
+            if (attributeExpressionExecutors[i + 1] == null) {
+                throw new SiddhiAppValidationException("Invalid input given to argument " + (i + 2) + " " +
+                        "'json.element' of json:setElements() function. Input 'json.element' argument cannot be null");
+            }
+            validateStringArgument(attributeExpressionExecutors[i + 2], i + 2, "key");
+            jsonPathEvaluators[i / 3] = new JsonPathEvaluator(attributeExpressionExecutors[i], configReader,
+                    "json:setElements", false, metrics);
+        }
+        diagnostics = new JsonDiagnostics(log, "json:setElements", configReader, siddhiQueryContext, metrics);
+        elementSetter = new JsonElementSetter(diagnostics);
+        return null;
+    }
+
+    private static void validateStringArgument(ExpressionExecutor executor, int index, String argumentName) {
+        if (executor == null) {
+            throw new SiddhiAppValidationException("Invalid input given to argument " + (index + 1) + " '" +
+                    argumentName + "' of json:setElements() function. Input '" + argumentName + "' argument cannot " +
+                    "be null");
+        }
+        if (executor.getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for argument " + (index + 1) + " '" +
+                    argumentName + "' of json:setElements() function, required " + Attribute.Type.STRING + ", but " +
+                    "found " + executor.getReturnType().toString());
+        }
+    }
+
+    /**
+     * The main execution method which will be called upon event arrival
+     * when there are more than one Function parameter
+     *
+     * @param data the runtime values of Function parameters
+     * @return the Function result
+     */
+    @Override
+    protected Object execute(Object[] data, State state) {
+        if (!metrics.markIn()) {
+            return setElements(data);
+        }
+        try {
+            return setElements(data);
+        } finally {
+            metrics.markOut();
+        }
+    }
+
+    private Object setElements(Object[] data) {
+        Object jsonInput = data[0];
+        DocumentContext documentContext;
+        metrics.parsed(jsonInput);
+        try {
+            documentContext = JsonPath.parse(JsonUtils.toModifiableDocument(jsonInput,
+                    jsonPathEvaluators[0].getEngine()));
+        } catch (InvalidJsonException e) {
+            diagnostics.report(JsonDiagnostics.Condition.INVALID_JSON, null);
+            throw new SiddhiAppRuntimeException("The input JSON is not a valid JSON. Input JSON - " +
+                    JsonUtils.describe(jsonInput), e);
+        }
+        for (int i = 1; i < data.length; i += 3) {
+            String path = data[i].toString();
+            String key = data[i + 2] == null ? null : data[i + 2].toString();
+            if (key != null && key.isEmpty()) {
+                key = null;
+            }
+            elementSetter.set(documentContext, jsonPathEvaluators[i / 3].resolve(path).getJsonPath(), path,
+                    data[i + 1], key);
+        }
+        return documentContext.json();
+    }
+
+    /**
+     * The main execution method which will be called upon event arrival
+     * when there are zero or one Function parameter
+     *
+     * @param data null if the Function parameter count is zero or
+     *             runtime data value of the Function parameter
+     * @return the Function result
+     */
+    @Override
+    protected Object execute(Object data, State state) {
+        return null;
+    }
+
+    /**
+     * @return the diagnostics of the conditions that made the function return default values
+     */
+    public JsonDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * return a Class object that represents the formal return type of the method represented by this Method object.
+     *
+     * @return the return type for the method this object represents
+     */
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.OBJECT;
+    }
+}
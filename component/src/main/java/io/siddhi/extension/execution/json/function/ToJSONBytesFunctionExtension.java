@@ -0,0 +1,199 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.function;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ParameterOverload;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonSerializer;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+
+/**
+ * This class provides implementation for getting the UTF-8 encoded json from the given object.
+ */
+@Extension(
+        name = "toBytes",
+        namespace = "json",
+        description = "Function generates the UTF-8 encoded JSON corresponding to a given JSON object as a " +
+                "`byte[]`, which is the same as encoding the result of `json:toString()` but without creating " +
+                "the intermediate string. This is intended for sinks that publish binary payloads.",
+        parameters = {
+                @Parameter(
+                        name = "json",
+                        description = "A valid JSON object to generate the UTF-8 encoded JSON.",
+                        type = {DataType.STRING, DataType.OBJECT},
+                        dynamic = true),
+                @Parameter(
+                        name = "allow.escape",
+                        description = "If this is set to true, quotes will be escaped in the resulting JSON. " +
+                                "Otherwise quotes will not be escaped.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false",
+                        dynamic = true),
+        },
+        parameterOverloads = {
+                @ParameterOverload(parameterNames = {"json"}),
+                @ParameterOverload(parameterNames = {"json", "allow.escape"})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "Returns the UTF-8 encoded JSON for the given JSON object as a `byte[]`.",
+                type = {DataType.OBJECT}),
+        examples = {
+                @Example(
+                        syntax = "json:toBytes(json)",
+                        description = "This returns the UTF-8 encoded JSON corresponding to a given JSON object."
+                ),
+                @Example(
+                        syntax = "json:toBytes(json, true)",
+                        description = "Assume the json object has the field 'user' with value 'david'. " +
+                                "With the allowEscape parameter set to true, this will return the UTF-8 encoded " +
+                                "string \"{\\\"user\\\":\\\"david\\\"}\""),
+        }
+
+)
+public class ToJSONBytesFunctionExtension extends FunctionExecutor {
+    private static final long serialVersionUID = 1L;
+    private JsonFunctionMetrics metrics;
+
+    /**
+     * The initialization method for {@link FunctionExecutor}, which will be called before other methods and validate
+     * the all configuration and getting the initial values.
+     *
+     * @param attributeExpressionExecutors are the executors of each attributes in the Function
+     * @param configReader                 this hold the {@link FunctionExecutor} extensions configuration reader.
+     * @param siddhiQueryContext           Siddhi query context
+     */
+    @Override
+    protected StateFactory init(ExpressionExecutor[] attributeExpressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        if (!(attributeExpressionExecutors.length == 1 || attributeExpressionExecutors.length == 2)) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to json:toBytes() function, "
+                    + "required 1 or 2, but found " + attributeExpressionExecutors.length);
+        }
+
+        if (attributeExpressionExecutors[0] == null) {
+            throw new SiddhiAppValidationException("Invalid input given to first argument 'json' of " +
+                    "json:toBytes() function. Input for 'json' argument cannot be null");
+        }
+        Attribute.Type firstAttributeType = attributeExpressionExecutors[0].getReturnType();
+        if (!(firstAttributeType == Attribute.Type.STRING || firstAttributeType == Attribute.Type.OBJECT)) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for first argument 'json' of " +
+                    "json:toBytes() function, required " + Attribute.Type.STRING + " or " + Attribute.Type.OBJECT +
+                    ", but found " + firstAttributeType.toString());
+        }
+        if (attributeExpressionExecutors.length == 2) {
+            if (attributeExpressionExecutors[1] == null) {
+                throw new SiddhiAppValidationException("Invalid input given to second argument 'allowEscape' of " +
+                        "json:toBytes() function. Input for 'allowEscape' argument cannot be null");
+            }
+            Attribute.Type secondAttributeType = attributeExpressionExecutors[1].getReturnType();
+            if (secondAttributeType != Attribute.Type.BOOL) {
+                throw new SiddhiAppValidationException("Invalid parameter type found for the second argument " +
+                        "'allowEscape' of json:toBytes() function, required " + Attribute.Type.BOOL +
+                        ", but found " + secondAttributeType.toString());
+            }
+        }
+        metrics = new JsonFunctionMetrics("json:toBytes", siddhiQueryContext);
+        return null;
+    }
+
+    /**
+     * The main execution method which will be called upon event arrival
+     * when there are more than one Function parameter
+     *
+     * @param data the runtime values of Function parameters
+     * @return the Function result
+     */
+    @Override
+    protected Object execute(Object[] data, State state) {
+        if (!metrics.markIn()) {
+            return toBytes(data);
+        }
+        try {
+            return toBytes(data);
+        } finally {
+            metrics.markOut();
+        }
+    }
+
+    private Object toBytes(Object[] data) {
+        Object jsonObject = data[0];
+        Object allowEscapeObject = data[1];
+
+        if (jsonObject == null || allowEscapeObject == null) {
+            throw new SiddhiAppRuntimeException("Null value passed to json:toBytes() function. " +
+                    (jsonObject == null ? "json is null. " : "") +
+                    (allowEscapeObject == null ? "allowEscapeObject is null. " : ""));
+        }
+        boolean allowEscape;
+        try {
+            allowEscape = (boolean) allowEscapeObject;
+        } catch (ClassCastException e) {
+            throw new SiddhiAppRuntimeException("Invalid type found for the value of allowEscape parameter. " +
+                    "Required boolean, but found " + allowEscapeObject.getClass().getSimpleName());
+        }
+
+        return JsonSerializer.toBytes(jsonObject, allowEscape);
+    }
+
+    /**
+     * The main execution method which will be called upon event arrival
+     * when there are zero or one Function parameter
+     *
+     * @param data null if the Function parameter count is zero or
+     *             runtime data value of the Function parameter
+     * @return the Function result
+     */
+    @Override
+    protected Object execute(Object data, State state) {
+        if (!metrics.markIn()) {
+            return JsonSerializer.toBytes(data);
+        }
+        try {
+            return JsonSerializer.toBytes(data);
+        } finally {
+            metrics.markOut();
+        }
+    }
+
+    /**
+     * return a Class object that represents the formal return type of the method represented by this Method object.
+     *
+     * @return the return type for the method this object represents
+     */
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.OBJECT;
+    }
+}
@@ -18,11 +18,13 @@
 
 package io.siddhi.extension.execution.json.function;
 
+import com.jayway.jsonpath.InvalidJsonException;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ParameterOverload;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.executor.ExpressionExecutor;
@@ -30,10 +32,13 @@ import io.siddhi.core.executor.function.FunctionExecutor;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonDiagnostics;
+import io.siddhi.extension.execution.json.util.JsonEngine;
+import io.siddhi.extension.execution.json.util.JsonEngines;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonUtils;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
-import net.minidev.json.parser.JSONParser;
-import net.minidev.json.parser.ParseException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -47,8 +52,11 @@ import org.apache.logging.log4j.Logger;
         parameters = {
                 @Parameter(
                         name = "json",
-                        description = "A valid JSON string that needs to be converted to a JSON object.",
-                        type = {DataType.STRING},
+                        description = "A valid JSON string that needs to be converted to a JSON object, or a " +
+                                "UTF-8 encoded JSON given as a `byte[]` or a `ByteBuffer` object. A JSON object or " +
+                                "array given as a `Map` or a `List` is copied, and other objects are serialized " +
+                                "into JSON by the engine.",
+                        type = {DataType.STRING, DataType.OBJECT},
                         dynamic = true),
         },
         parameterOverloads = {
@@ -57,6 +65,14 @@ import org.apache.logging.log4j.Logger;
         returnAttributes = @ReturnAttribute(
                 description = "Returns the JSON object generated using the given JSON string.",
                 type = {DataType.OBJECT}),
+        systemParameter = {
+                @SystemParameter(
+                        name = "engine",
+                        description = "The JSON library used to parse the JSON string, which is one of " +
+                                "`json-smart`, `gson` and `jackson`.",
+                        defaultValue = "json-smart",
+                        possibleParameters = {"json-smart", "gson", "jackson"})
+        },
         examples = @Example(
                 syntax = "json:toJson(json)",
                 description = "This returns the JSON object corresponding to the given JSON string."
@@ -65,7 +81,9 @@ import org.apache.logging.log4j.Logger;
 public class ToJSONObjectFunctionExtension extends FunctionExecutor {
     private static final long serialVersionUID = 1L;
     private static final Logger log = LogManager.getLogger(ToJSONObjectFunctionExtension.class);
-    private static final JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+    private JsonDiagnostics diagnostics;
+    private JsonFunctionMetrics metrics;
+    private JsonEngine engine;
 
     /**
      * The initialization method for {@link FunctionExecutor}, which will be called before other methods and validate
@@ -90,12 +108,14 @@ public class ToJSONObjectFunctionExtension extends FunctionExecutor {
                     "json:toJson() function. Input for 'json' argument cannot be null");
         }
         Attribute.Type firstAttributeType = attributeExpressionExecutors[0].getReturnType();
-        if (!(firstAttributeType == Attribute.Type.STRING)) {
+        if (!(firstAttributeType == Attribute.Type.STRING || firstAttributeType == Attribute.Type.OBJECT)) {
             throw new SiddhiAppValidationException("Invalid parameter type found for first argument 'json' of " +
-                    "json:toJson() function, required " + Attribute.Type.STRING + ", but found " + firstAttributeType
-                    .toString());
+                    "json:toJson() function, required " + Attribute.Type.STRING + " or " + Attribute.Type.OBJECT +
+                    ", but found " + firstAttributeType.toString());
         }
-
+        metrics = new JsonFunctionMetrics("json:toObject", siddhiQueryContext);
+        diagnostics = new JsonDiagnostics(log, "json:toObject", configReader, siddhiQueryContext, metrics);
+        engine = JsonEngines.read(configReader, "json:toObject", true);
         return null;
     }
 
@@ -121,16 +141,36 @@ public class ToJSONObjectFunctionExtension extends FunctionExecutor {
      */
     @Override
     protected Object execute(Object data, State state) {
+        if (!metrics.markIn()) {
+            return toJSONObject(data);
+        }
+        try {
+            return toJSONObject(data);
+        } finally {
+            metrics.markOut();
+        }
+    }
+
+    private Object toJSONObject(Object data) {
         Object returnValue = null;
+        if (data instanceof String || JsonUtils.isBinary(data)) {
+            metrics.parsed(data);
+        }
         try {
-            returnValue = jsonParser.parse(data.toString());
-        } catch (ParseException e) {
-            log.error(siddhiQueryContext.getSiddhiAppContext().getName() + ":" + siddhiQueryContext.getName() +
-                    ": Cannot parse the given string into JSON. Hence returning null");
+            returnValue = JsonUtils.toModifiableDocument(data, engine);
+        } catch (InvalidJsonException e) {
+            diagnostics.report(JsonDiagnostics.Condition.INVALID_JSON, null);
         }
         return returnValue;
     }
 
+    /**
+     * @return the diagnostics of the conditions that made the function return default values
+     */
+    public JsonDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
     /**
      * return a Class object that represents the formal return type of the method represented by this Method object.
      *
@@ -18,8 +18,6 @@
 
 package io.siddhi.extension.execution.json.function;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
@@ -33,6 +31,8 @@ import io.siddhi.core.executor.function.FunctionExecutor;
 import io.siddhi.core.util.config.ConfigReader;
 import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.extension.execution.json.util.JsonFunctionMetrics;
+import io.siddhi.extension.execution.json.util.JsonSerializer;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
 
@@ -86,7 +86,7 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class ToJSONStringFunctionExtension extends FunctionExecutor {
     private static final long serialVersionUID = 1L;
-    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private JsonFunctionMetrics metrics;
 
     /**
      * The initialization method for {@link FunctionExecutor}, which will be called before other methods and validate
@@ -128,7 +128,7 @@ public class ToJSONStringFunctionExtension extends FunctionExecutor {
                         ", but found " + secondAttributeType.toString());
             }
         }
-
+        metrics = new JsonFunctionMetrics("json:toString", siddhiQueryContext);
         return null;
     }
 
@@ -141,6 +141,17 @@ public class ToJSONStringFunctionExtension extends FunctionExecutor {
      */
     @Override
     protected Object execute(Object[] data, State state) {
+        if (!metrics.markIn()) {
+            return toJSONString(data);
+        }
+        try {
+            return toJSONString(data);
+        } finally {
+            metrics.markOut();
+        }
+    }
+
+    private Object toJSONString(Object[] data) {
         Object jsonObject = data[0];
         Object allowEscapeObject = data[1];
 
@@ -157,11 +168,7 @@ public class ToJSONStringFunctionExtension extends FunctionExecutor {
                     "Required boolean, but found " + allowEscapeObject.getClass().getSimpleName());
         }
 
-        if (allowEscape) {
-            return gson.toJson(gson.toJson(data[0]));
-        } else {
-            return gson.toJson(data[0]);
-        }
+        return JsonSerializer.toJson(jsonObject, allowEscape);
     }
 
     /**
@@ -174,7 +181,18 @@ public class ToJSONStringFunctionExtension extends FunctionExecutor {
      */
     @Override
     protected Object execute(Object data, State state) {
-        return gson.toJson(data);
+        if (!metrics.markIn()) {
+            return toJSONString(data);
+        }
+        try {
+            return toJSONString(data);
+        } finally {
+            metrics.markOut();
+        }
+    }
+
+    private Object toJSONString(Object data) {
+        return JsonSerializer.toJson(data);
     }
 
     /**
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the events generated by a stream processor and sends them to the next processor in chunks of at most the
+ * given size, so that a single input which generates a large number of events does not build one large chunk.
+ * <p>
+ * Events passed to the emitter must not be linked to other events, i.e. events taken from the input chunk must be
+ * removed from it before being emitted. The invocation of the stream processor is tracked through
+ * {@link #markIn()} and {@link #markOut()}, which record a single latency sample for the invocation. While an
+ * invocation is tracked, the full chunks are held back and sent to the next processor once the sample is recorded,
+ * so that the sample does not include the time spent by the next processor.
+ */
+public final class BoundedChunkEmitter {
+    public static final String EMIT_CHUNK_SIZE = "emit.chunk.size";
+    private final Processor nextProcessor;
+    private final int maxChunkSize;
+    private final JsonFunctionMetrics metrics;
+    private boolean tracked = false;
+    private final List<ComplexEventChunk<StreamEvent>> heldChunks = new ArrayList<>();
+    private ComplexEventChunk<StreamEvent> chunk = new ComplexEventChunk<>();
+    private int size = 0;
+
+    /**
+     * @param nextProcessor the processor to which the events are sent
+     * @param maxChunkSize  the maximum number of events sent in a chunk, or 0 to send all the events in one chunk
+     * @param metrics       the metrics of the stream processor
+     */
+    public BoundedChunkEmitter(Processor nextProcessor, int maxChunkSize, JsonFunctionMetrics metrics) {
+        this.nextProcessor = nextProcessor;
+        this.maxChunkSize = maxChunkSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Reads the configured maximum chunk size of a stream processor.
+     *
+     * @param configReader the extension configuration reader
+     * @param functionName the name of the function used in validation messages, i.e. 'json:tokenize'
+     * @return the maximum chunk size, or 0 if the chunks are not bounded
+     * @throws SiddhiAppValidationException if the configured value is not a non-negative integer
+     */
+    public static int readMaxChunkSize(ConfigReader configReader, String functionName) {
+        String maxChunkSize = configReader.readConfig(EMIT_CHUNK_SIZE, "0");
+        try {
+            int value = Integer.parseInt(maxChunkSize.trim());
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new SiddhiAppValidationException("Invalid value '" + maxChunkSize + "' configured for '" +
+                EMIT_CHUNK_SIZE + "' of " + functionName + "() function, required a non-negative integer");
+    }
+
+    /**
+     * Marks the start of an invocation of the stream processor.
+     */
+    public void markIn() {
+        tracked = metrics.markIn();
+    }
+
+    /**
+     * Marks the end of an invocation started by {@link #markIn()}, and sends the chunks held back during the
+     * invocation to the next processor.
+     */
+    public void markOut() {
+        if (tracked) {
+            tracked = false;
+            metrics.markOut();
+            sendHeldChunks();
+        }
+    }
+
+    /**
+     * Adds an event, sending the collected events to the next processor if the maximum chunk size is reached.
+     *
+     * @param streamEvent the event to be sent
+     */
+    public void add(StreamEvent streamEvent) {
+        chunk.add(streamEvent);
+        if (maxChunkSize > 0 && ++size >= maxChunkSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends the collected events, if any, to the next processor, unless the invocation is tracked, in which case they
+     * are sent by {@link #markOut()}.
+     */
+    public void flush() {
+        if (chunk.getFirst() != null) {
+            ComplexEventChunk<StreamEvent> outputChunk = chunk;
+            chunk = new ComplexEventChunk<>();
+            size = 0;
+            if (tracked) {
+                heldChunks.add(outputChunk);
+            } else {
+                sendHeldChunks();
+                nextProcessor.process(outputChunk);
+            }
+        }
+    }
+
+    private void sendHeldChunks() {
+        if (!heldChunks.isEmpty()) {
+            List<ComplexEventChunk<StreamEvent>> outputChunks = new ArrayList<>(heldChunks);
+            heldChunks.clear();
+            for (ComplexEventChunk<StreamEvent> outputChunk : outputChunks) {
+                nextProcessor.process(outputChunk);
+            }
+        }
+    }
+}
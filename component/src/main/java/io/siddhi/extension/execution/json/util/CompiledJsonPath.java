@@ -0,0 +1,138 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.path.PathCompiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compiled {@link JsonPath} together with the segments of the path when it is a simple definite path made only of
+ * property names and array indexes, such as {@code $.header.id} or {@code $.items[0]['sku']}. Simple paths can be
+ * evaluated over JSON strings by the {@link StreamingJsonScanner} without parsing the whole document.
+ */
+public final class CompiledJsonPath {
+    private final JsonPath jsonPath;
+    private final Object[] segments;
+    private final Path definitePath;
+
+    private CompiledJsonPath(JsonPath jsonPath, Object[] segments, Path definitePath) {
+        this.jsonPath = jsonPath;
+        this.segments = segments;
+        this.definitePath = definitePath;
+    }
+
+    /**
+     * Compiles the given path.
+     *
+     * @param path the JSON path
+     * @return the compiled path
+     * @throws com.jayway.jsonpath.InvalidPathException if the path is not a valid JSON path
+     */
+    public static CompiledJsonPath compile(String path) {
+        JsonPath jsonPath = JsonPath.compile(path);
+        if (!jsonPath.isDefinite()) {
+            return new CompiledJsonPath(jsonPath, null, null);
+        }
+        Object[] segments = parseSegments(path.trim());
+        Path definitePath = null;
+        if (segments == null) {
+            definitePath = PathCompiler.compile(path);
+            if (definitePath.isFunctionPath()) {
+                definitePath = null;
+            }
+        }
+        return new CompiledJsonPath(jsonPath, segments, definitePath);
+    }
+
+    public JsonPath getJsonPath() {
+        return jsonPath;
+    }
+
+    /**
+     * @return the path evaluated directly, so that its value and whether it exists are known from one evaluation,
+     * or null if the path is simple, not definite or ends with a function
+     */
+    public Path getDefinitePath() {
+        return definitePath;
+    }
+
+    /**
+     * @return the property names (as {@link String}) and array indexes (as {@link Integer}) of the path, or null if
+     * the path is not a simple definite path
+     */
+    public Object[] getSegments() {
+        return segments;
+    }
+
+    public boolean isSimple() {
+        return segments != null;
+    }
+
+    private static Object[] parseSegments(String path) {
+        if (path.length() < 2 || path.charAt(0) != '$') {
+            return null;
+        }
+        List<Object> segments = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < path.length() && isPropertyNameChar(path.charAt(i))) {
+                    i++;
+                }
+                if (i == start) {
+                    return null;
+                }
+                segments.add(path.substring(start, i));
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                String token = path.substring(i + 1, end).trim();
+                if (token.length() > 2 && (token.charAt(0) == '\'' || token.charAt(0) == '"')
+                        && token.charAt(token.length() - 1) == token.charAt(0)) {
+                    String name = token.substring(1, token.length() - 1);
+                    if (name.indexOf('\'') >= 0 || name.indexOf('"') >= 0 || name.indexOf('\\') >= 0) {
+                        return null;
+                    }
+                    segments.add(name);
+                } else if (!token.isEmpty() && token.length() < 10 && token.chars().allMatch(Character::isDigit)) {
+                    segments.add(Integer.parseInt(token));
+                } else {
+                    return null;
+                }
+                i = end + 1;
+            } else {
+                return null;
+            }
+        }
+        return segments.toArray();
+    }
+
+    private static boolean isPropertyNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '$';
+    }
+}
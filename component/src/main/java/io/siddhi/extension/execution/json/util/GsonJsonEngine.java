@@ -0,0 +1,131 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.jayway.jsonpath.InvalidJsonException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engine parsing and serializing with Gson. The JSON is read with the streaming reader of Gson, instead of as a
+ * generic object, so that integral numbers are not converted into doubles. UTF-8 encoded JSON is decoded while it
+ * is read, without creating a string of the whole JSON.
+ */
+final class GsonJsonEngine implements JsonEngine {
+    static final GsonJsonEngine PERMISSIVE = new GsonJsonEngine(true);
+    static final GsonJsonEngine STRICT = new GsonJsonEngine(false);
+    private final boolean permissive;
+
+    private GsonJsonEngine(boolean permissive) {
+        this.permissive = permissive;
+    }
+
+    @Override
+    public String getName() {
+        return JsonEngines.GSON;
+    }
+
+    @Override
+    public Object parse(String json) {
+        return parse(new StringReader(json));
+    }
+
+    @Override
+    public Object parse(byte[] json, int offset, int length) {
+        return parse(new InputStreamReader(new ByteArrayInputStream(json, offset, length), StandardCharsets.UTF_8));
+    }
+
+    private Object parse(Reader json) {
+        try (JsonReader reader = new JsonReader(json)) {
+            reader.setLenient(permissive);
+            Object value = read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new InvalidJsonException("Unexpected data after the JSON value");
+            }
+            return value;
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new InvalidJsonException(e);
+        }
+    }
+
+    private static Object read(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    map.put(reader.nextName(), read(reader));
+                }
+                reader.endObject();
+                return map;
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    list.add(read(reader));
+                }
+                reader.endArray();
+                return list;
+            case STRING:
+                return reader.nextString();
+            case NUMBER:
+                return toNumber(reader.nextString());
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                throw new InvalidJsonException("Unexpected token " + reader.peek() + " in the JSON");
+        }
+    }
+
+    private static Number toNumber(String number) {
+        if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+            return Double.parseDouble(number);
+        }
+        if (number.length() < 19) {
+            long value = Long.parseLong(number);
+            if (value == (int) value) {
+                return (int) value;
+            }
+            return value;
+        }
+        BigInteger value = new BigInteger(number);
+        return value.bitLength() < 64 ? (Number) value.longValue() : value;
+    }
+
+    @Override
+    public String toJson(Object value) {
+        return JsonSerializer.toJson(value);
+    }
+}
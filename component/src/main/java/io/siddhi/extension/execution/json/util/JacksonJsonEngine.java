@@ -0,0 +1,95 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.InvalidJsonException;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+
+import java.io.IOException;
+
+/**
+ * Engine parsing and serializing with Jackson.
+ */
+final class JacksonJsonEngine implements JsonEngine {
+    private final ObjectMapper objectMapper;
+
+    private JacksonJsonEngine(boolean permissive) {
+        objectMapper = new ObjectMapper()
+                .enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+                .configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, permissive)
+                .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, permissive)
+                .configure(JsonParser.Feature.ALLOW_NON_NUMERIC_NUMBERS, permissive);
+    }
+
+    /**
+     * Returns the shared engine for the given mode. The engines are created when first used, so that Jackson is only
+     * loaded when it is selected.
+     *
+     * @param permissive whether the engine accepts the relaxed syntax of the permissive mode
+     * @return the engine
+     */
+    static JacksonJsonEngine get(boolean permissive) {
+        return permissive ? Engines.PERMISSIVE : Engines.STRICT;
+    }
+
+    @Override
+    public String getName() {
+        return JsonEngines.JACKSON;
+    }
+
+    @Override
+    public Object parse(String json) {
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (IOException e) {
+            throw new InvalidJsonException(e);
+        }
+    }
+
+    @Override
+    public Object parse(byte[] json, int offset, int length) {
+        try {
+            return objectMapper.readValue(json, offset, length, Object.class);
+        } catch (IOException e) {
+            throw new InvalidJsonException(e);
+        }
+    }
+
+    @Override
+    public String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new SiddhiAppRuntimeException("Cannot serialize the value into JSON. Value - " + value, e);
+        }
+    }
+
+    /**
+     * Holder of the shared engines, initialized on first use.
+     */
+    private static final class Engines {
+        private static final JacksonJsonEngine PERMISSIVE = new JacksonJsonEngine(true);
+        private static final JacksonJsonEngine STRICT = new JacksonJsonEngine(false);
+    }
+}
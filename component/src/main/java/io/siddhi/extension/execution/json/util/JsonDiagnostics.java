@@ -0,0 +1,200 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.extension.holder.ExternalReferencedHolder;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.Logger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the conditions met by a single JSON function in a query while evaluating its inputs, such as missing paths,
+ * type mismatches and invalid JSON inputs.
+ * <p>
+ * Each occurrence is logged only at DEBUG level. Instead of logging every occurrence, a summary of the conditions
+ * counted since the previous summary is logged at WARN level every 'diagnostics.summary.interval' milliseconds by
+ * the scheduler of the Siddhi app, whether or not further events arrive. The summary is skipped when no condition
+ * occurred, and a final summary is logged when the Siddhi app shuts down.
+ */
+public class JsonDiagnostics implements ExternalReferencedHolder {
+    public static final String SUMMARY_INTERVAL = "diagnostics.summary.interval";
+    private static final String DEFAULT_SUMMARY_INTERVAL = "60000";
+    private static final Condition[] CONDITIONS = Condition.values();
+    private final Logger log;
+    private final JsonFunctionMetrics metrics;
+    private final String prefix;
+    private final SiddhiAppContext siddhiAppContext;
+    private final long summaryInterval;
+    private final LongAdder[] counts = new LongAdder[CONDITIONS.length];
+    private final long[] summarizedCounts = new long[CONDITIONS.length];
+    private long lastSummaryTime = System.currentTimeMillis();
+    private ScheduledFuture<?> summaryTask;
+
+    /**
+     * Conditions counted by {@link JsonDiagnostics}.
+     */
+    public enum Condition {
+        MISSING_PATH("missing path"),
+        MULTIPLE_MATCHES("multiple or no matches"),
+        TYPE_MISMATCH("type mismatch"),
+        INVALID_JSON("invalid JSON");
+
+        private final String description;
+
+        Condition(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * @param log                the logger of the function
+     * @param functionName       the name of the function, i.e. 'json:getString'
+     * @param configReader       the extension configuration reader
+     * @param siddhiQueryContext the context of the query the function belongs to
+     * @param metrics            the metrics of the function, to which the occurrences are also reported
+     * @throws SiddhiAppValidationException if the configured summary interval is invalid
+     */
+    public JsonDiagnostics(Logger log, String functionName, ConfigReader configReader,
+                           SiddhiQueryContext siddhiQueryContext, JsonFunctionMetrics metrics) {
+        this.log = log;
+        this.metrics = metrics;
+        this.siddhiAppContext = siddhiQueryContext.getSiddhiAppContext();
+        this.prefix = siddhiAppContext.getName() + ":" + siddhiQueryContext.getName() +
+                ": " + functionName + "()";
+        this.summaryInterval = readSummaryInterval(configReader, functionName);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+        siddhiAppContext.addEternalReferencedHolder(this);
+    }
+
+    private static long readSummaryInterval(ConfigReader configReader, String functionName) {
+        String interval = configReader.readConfig(SUMMARY_INTERVAL, DEFAULT_SUMMARY_INTERVAL);
+        try {
+            long value = Long.parseLong(interval.trim());
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new SiddhiAppValidationException("Invalid value '" + interval + "' configured for '" +
+                SUMMARY_INTERVAL + "' of " + functionName + "() function, required a positive interval in " +
+                "milliseconds");
+    }
+
+    /**
+     * Records an occurrence of the given condition.
+     *
+     * @param condition the condition
+     * @param path      the JSON path evaluated when the condition occurred, or null if not applicable
+     */
+    public void report(Condition condition, Object path) {
+        counts[condition.ordinal()].increment();
+        metrics.reported(condition);
+        if (log.isDebugEnabled()) {
+            if (path == null) {
+                log.debug("{}: {}", prefix, condition);
+            } else {
+                log.debug("{}: {} for the path '{}'", prefix, condition, path);
+            }
+        }
+    }
+
+    /**
+     * @param condition the condition
+     * @return the number of occurrences of the condition since the function was created
+     */
+    public long getCount(Condition condition) {
+        return counts[condition.ordinal()].sum();
+    }
+
+    /**
+     * @return the number of occurrences of each condition since the function was created
+     */
+    public Map<Condition, Long> getCounts() {
+        Map<Condition, Long> countMap = new EnumMap<>(Condition.class);
+        for (Condition condition : CONDITIONS) {
+            countMap.put(condition, getCount(condition));
+        }
+        return countMap;
+    }
+
+    /**
+     * Schedules the periodic summaries on the scheduler of the Siddhi app. Called when the Siddhi app starts.
+     */
+    @Override
+    public synchronized void start() {
+        if (summaryTask == null) {
+            summaryTask = siddhiAppContext.getScheduledExecutorService().scheduleAtFixedRate(this::logSummary,
+                    summaryInterval, summaryInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cancels the periodic summaries and logs the conditions counted since the previous summary. Called when the
+     * Siddhi app shuts down.
+     */
+    @Override
+    public synchronized void stop() {
+        if (summaryTask != null) {
+            summaryTask.cancel(false);
+            summaryTask = null;
+        }
+        logSummary();
+    }
+
+    synchronized void logSummary() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - lastSummaryTime;
+        lastSummaryTime = now;
+        StringBuilder summary = new StringBuilder(prefix).append(" encountered ");
+        boolean first = true;
+        for (int i = 0; i < CONDITIONS.length; i++) {
+            long count = counts[i].sum();
+            long newCount = count - summarizedCounts[i];
+            summarizedCounts[i] = count;
+            if (newCount > 0) {
+                if (!first) {
+                    summary.append(", ");
+                }
+                summary.append(newCount).append(' ').append(CONDITIONS[i]);
+                first = false;
+            }
+        }
+        if (!first) {
+            log.warn(summary.append(" during the last ").append(elapsed)
+                    .append(" ms. Enable DEBUG logs to view each occurrence.").toString());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hash key of a JSON element held in the state of the group aggregators. The canonical 64-bit fingerprint of the
+ * element is computed once when the key is created, independent of the order of the keys of the JSON objects, so
+ * that looking up an element does not recompute the deep hash code of the stored elements, and the deep equality
+ * check of two elements is only done when their fingerprints match.
+ */
+public final class JsonElementKey implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final long NULL_FINGERPRINT = 0x9E3779B97F4A7C15L;
+    private static final long MAP_SEED = 0x2545F4914F6CDD1DL;
+    private static final long LIST_SEED = 0x632BE59BD9B4E019L;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final Object element;
+    private final long fingerprint;
+
+    private JsonElementKey(Object element, long fingerprint) {
+        this.element = element;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @param element the JSON element, i.e. a JSON object, array, value or null
+     * @return the key of the given element
+     */
+    public static JsonElementKey of(Object element) {
+        return new JsonElementKey(element, fingerprint(element));
+    }
+
+    /**
+     * @param element a JSON element equal to the element of this key, e.g. its read only copy
+     * @return a key of the given element with the fingerprint of this key
+     */
+    public JsonElementKey withElement(Object element) {
+        return new JsonElementKey(element, fingerprint);
+    }
+
+    /**
+     * @return the JSON element of the key
+     */
+    public Object getElement() {
+        return element;
+    }
+
+    /**
+     * @return the canonical 64-bit fingerprint of the element
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Computes the canonical 64-bit fingerprint of the given JSON element. Elements that are equal have the same
+     * fingerprint regardless of the order of the keys of their JSON objects.
+     *
+     * @param element the JSON element
+     * @return the fingerprint of the element
+     */
+    static long fingerprint(Object element) {
+        if (element == null) {
+            return NULL_FINGERPRINT;
+        }
+        if (element instanceof Map) {
+            // Entries are combined with a commutative sum, so that the key order does not affect the fingerprint.
+            long hash = MAP_SEED;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) element).entrySet()) {
+                hash += mix(fingerprint(entry.getKey()) * 31 + fingerprint(entry.getValue()));
+            }
+            return mix(hash ^ ((Map) element).size());
+        }
+        if (element instanceof List) {
+            long hash = LIST_SEED;
+            for (Object item : (List) element) {
+                hash = hash * 31 + fingerprint(item);
+            }
+            return mix(hash);
+        }
+        if (element instanceof String) {
+            String value = (String) element;
+            long hash = FNV_OFFSET_BASIS;
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+            return mix(hash);
+        }
+        return mix(element.hashCode());
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JsonElementKey)) {
+            return false;
+        }
+        JsonElementKey that = (JsonElementKey) o;
+        return fingerprint == that.fingerprint && Objects.equals(element, that.element);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (fingerprint ^ (fingerprint >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(element);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidModificationException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sets JSON elements into a parsed document, following the semantics of json:setElement. When the path selects an
+ * array the element is appended to it, when a key is given the element is put into the selected object under that
+ * key, and otherwise the selected element is replaced.
+ */
+public final class JsonElementSetter {
+    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private final JsonDiagnostics diagnostics;
+
+    /**
+     * @param diagnostics the diagnostics to which missing paths and invalid modifications are reported
+     */
+    public JsonElementSetter(JsonDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Sets the given element into the document. When the path does not exist in the document the document is left
+     * unchanged, as JsonPath would otherwise fail to modify a path with a missing intermediate element.
+     *
+     * @param documentContext the document to be modified
+     * @param jsonPath        the compiled path where the element should be added or replaced
+     * @param path            the path as given to the function, used when reporting
+     * @param jsonElement     the element to be set
+     * @param key             the key of the element, or null if the element has no key
+     */
+    public void set(DocumentContext documentContext, JsonPath jsonPath, String path, Object jsonElement, String key) {
+        Object object;
+        try {
+            object = documentContext.read(jsonPath);
+        } catch (PathNotFoundException e) {
+            diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, path);
+            return;
+        }
+        if (object instanceof List) {
+            try {
+                documentContext.add(jsonPath, toElement(jsonElement));
+            } catch (InvalidModificationException e) {
+                diagnostics.report(JsonDiagnostics.Condition.TYPE_MISMATCH, path);
+            }
+        } else {
+            if (key != null) {
+                documentContext.put(jsonPath, key, toElement(jsonElement));
+            } else {
+                documentContext.set(jsonPath, jsonElement);
+            }
+        }
+    }
+
+    /**
+     * Converts the element to be added into the document. Strings holding a JSON object or array are added as
+     * their parsed form, while any other element is added as it is.
+     *
+     * @param jsonElement the element passed to the function
+     * @return the element to be added into the document
+     */
+    private static Object toElement(Object jsonElement) {
+        if (jsonElement instanceof String && isJsonContainer((String) jsonElement)) {
+            Object parsedJsonElement = gson.fromJson((String) jsonElement, Object.class);
+            if (parsedJsonElement instanceof Map || parsedJsonElement instanceof List) {
+                return parsedJsonElement;
+            }
+        }
+        return jsonElement;
+    }
+
+    private static boolean isJsonContainer(String jsonElement) {
+        for (int i = 0; i < jsonElement.length(); i++) {
+            char c = jsonElement.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[';
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+/**
+ * JSON library used by the functions to parse JSON strings and to serialize JSON values. The functions select an
+ * engine through the 'engine' configuration, see {@link JsonEngines}.
+ * <p>
+ * All the engines parse JSON objects into {@link java.util.Map}s and JSON arrays into {@link java.util.List}s, with
+ * integral numbers as {@link Integer}s when they fit and as {@link Long}s or {@link java.math.BigInteger}s
+ * otherwise, so that the parsed documents can be evaluated with JsonPath and used by the other functions regardless
+ * of the engine that produced them.
+ */
+public interface JsonEngine {
+
+    /**
+     * @return the name of the engine used in the configuration
+     */
+    String getName();
+
+    /**
+     * Parses the given JSON string.
+     *
+     * @param json the JSON string
+     * @return the parsed JSON object, array or value
+     * @throws com.jayway.jsonpath.InvalidJsonException if the given string is not a valid JSON
+     */
+    Object parse(String json);
+
+    /**
+     * Parses the given UTF-8 encoded JSON, without decoding it into a string first where the library allows.
+     *
+     * @param json   the bytes holding the JSON
+     * @param offset the index of the first byte of the JSON
+     * @param length the number of bytes of the JSON
+     * @return the parsed JSON object, array or value
+     * @throws com.jayway.jsonpath.InvalidJsonException if the given bytes are not a valid JSON
+     */
+    Object parse(byte[] json, int offset, int length);
+
+    /**
+     * Serializes the given value into a JSON string.
+     *
+     * @param value the JSON object, array or value
+     * @return the JSON string
+     */
+    String toJson(Object value);
+}
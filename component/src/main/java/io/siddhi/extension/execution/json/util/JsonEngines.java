@@ -0,0 +1,102 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.Locale;
+
+/**
+ * Selects the {@link JsonEngine} of a function through the 'engine' configuration of the function, i.e.
+ * 'json.getString.engine' in the deployment configuration. The supported engines are 'json-smart', which is the
+ * default, 'gson' and 'jackson'.
+ */
+public final class JsonEngines {
+    public static final String ENGINE = "engine";
+    public static final String JSON_SMART = "json-smart";
+    public static final String GSON = "gson";
+    public static final String JACKSON = "jackson";
+
+    private JsonEngines() {
+    }
+
+    /**
+     * Returns the engine used to parse the documents evaluated with JsonPath when no engine is configured.
+     *
+     * @return the json-smart engine
+     */
+    public static JsonEngine getDefault() {
+        return JsonSmartJsonEngine.DOCUMENT;
+    }
+
+    /**
+     * Reads the engine configured for a function to parse the documents evaluated with JsonPath, which accepts the
+     * relaxed syntax of json-smart's permissive mode, i.e. unquoted keys and single quoted strings.
+     *
+     * @param configReader the extension configuration reader
+     * @param functionName the name of the function used in validation messages, i.e. 'json:getString'
+     * @return the configured engine
+     * @throws SiddhiAppValidationException if the configured engine is unknown or its library is not available
+     */
+    public static JsonEngine read(ConfigReader configReader, String functionName) {
+        String engine = readName(configReader, functionName);
+        return JSON_SMART.equals(engine) ? JsonSmartJsonEngine.DOCUMENT : get(engine, functionName, true);
+    }
+
+    /**
+     * Reads the engine configured for a function.
+     *
+     * @param configReader the extension configuration reader
+     * @param functionName the name of the function used in validation messages, i.e. 'json:getString'
+     * @param permissive   whether the engine should accept the relaxed syntax of json-smart's permissive mode
+     * @return the configured engine
+     * @throws SiddhiAppValidationException if the configured engine is unknown or its library is not available
+     */
+    public static JsonEngine read(ConfigReader configReader, String functionName, boolean permissive) {
+        return get(readName(configReader, functionName), functionName, permissive);
+    }
+
+    private static String readName(ConfigReader configReader, String functionName) {
+        String engine = configReader.readConfig(ENGINE, JSON_SMART).trim().toLowerCase(Locale.ENGLISH);
+        if (!JSON_SMART.equals(engine) && !GSON.equals(engine) && !JACKSON.equals(engine)) {
+            throw new SiddhiAppValidationException("Invalid value '" + engine + "' configured for '" + ENGINE +
+                    "' of " + functionName + "() function, required '" + JSON_SMART + "', '" + GSON + "' or '" +
+                    JACKSON + "'");
+        }
+        return engine;
+    }
+
+    private static JsonEngine get(String engine, String functionName, boolean permissive) {
+        switch (engine) {
+            case GSON:
+                return permissive ? GsonJsonEngine.PERMISSIVE : GsonJsonEngine.STRICT;
+            case JACKSON:
+                try {
+                    return JacksonJsonEngine.get(permissive);
+                } catch (LinkageError e) {
+                    throw new SiddhiAppValidationException("The '" + JACKSON + "' engine configured for " +
+                            functionName + "() function requires jackson-databind, which is not available", e);
+                }
+            default:
+                return permissive ? JsonSmartJsonEngine.PERMISSIVE : JsonSmartJsonEngine.STRICT;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.util.SiddhiConstants;
+import io.siddhi.core.util.parser.helper.QueryParserHelper;
+import io.siddhi.core.util.statistics.LatencyTracker;
+import io.siddhi.core.util.statistics.ThroughputTracker;
+import io.siddhi.core.util.statistics.metrics.Level;
+
+import java.util.Locale;
+
+/**
+ * Reports the metrics of a JSON function through the statistics of the Siddhi app.
+ * <p>
+ * The metrics are registered under the query that uses the function, i.e.
+ * '...Siddhi.Queries.&lt;query&gt;.json:getInt.latency', and are only recorded when the statistics of the Siddhi app
+ * are enabled. Reported metrics are the invocation latency and throughput, the number of JSON inputs parsed and
+ * their total length in characters, or in bytes for binary inputs, and the number of occurrences of each
+ * {@link JsonDiagnostics.Condition}.
+ */
+public class JsonFunctionMetrics {
+    private final SiddhiAppContext siddhiAppContext;
+    private final LatencyTracker latencyTracker;
+    private final ThroughputTracker invocationTracker;
+    private final ThroughputTracker parseTracker;
+    private final ThroughputTracker parsedCharactersTracker;
+    private final ThroughputTracker[] conditionTrackers;
+
+    /**
+     * @param functionName       the name of the function, i.e. 'json:getString'
+     * @param siddhiQueryContext the context of the query the function belongs to
+     */
+    public JsonFunctionMetrics(String functionName, SiddhiQueryContext siddhiQueryContext) {
+        this.siddhiAppContext = siddhiQueryContext.getSiddhiAppContext();
+        String queryName = siddhiQueryContext.getName();
+        this.latencyTracker = QueryParserHelper.createLatencyTracker(siddhiAppContext, queryName,
+                SiddhiConstants.METRIC_INFIX_QUERIES, functionName);
+        this.invocationTracker = createThroughputTracker(queryName, functionName);
+        this.parseTracker = createThroughputTracker(queryName, functionName + ".parses");
+        this.parsedCharactersTracker = createThroughputTracker(queryName, functionName + ".parsedCharacters");
+        JsonDiagnostics.Condition[] conditions = JsonDiagnostics.Condition.values();
+        this.conditionTrackers = new ThroughputTracker[conditions.length];
+        for (JsonDiagnostics.Condition condition : conditions) {
+            conditionTrackers[condition.ordinal()] = createThroughputTracker(queryName,
+                    functionName + "." + condition.name().toLowerCase(Locale.ENGLISH));
+        }
+    }
+
+    /**
+     * @return whether the metrics are currently recorded
+     */
+    public boolean isEnabled() {
+        return siddhiAppContext.getStatisticsManager() != null
+                && Level.BASIC.compareTo(siddhiAppContext.getRootMetricsLevel()) <= 0;
+    }
+
+    /**
+     * Marks the start of an invocation of the function.
+     *
+     * @return whether the invocation is tracked, in which case {@link #markOut()} must be called once it completes
+     */
+    public boolean markIn() {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (invocationTracker != null) {
+            invocationTracker.eventIn();
+        }
+        if (latencyTracker != null) {
+            latencyTracker.markIn();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the end of an invocation tracked by {@link #markIn()}.
+     */
+    public void markOut() {
+        latencyTracker.markOut();
+    }
+
+    /**
+     * Records a JSON input parsed by the function.
+     *
+     * @param json the parsed JSON input
+     */
+    public void parsed(Object json) {
+        if (isEnabled()) {
+            if (parseTracker != null) {
+                parseTracker.eventIn();
+            }
+            if (parsedCharactersTracker != null) {
+                if (json instanceof String) {
+                    parsedCharactersTracker.eventsIn(((String) json).length());
+                } else if (JsonUtils.isBinary(json)) {
+                    parsedCharactersTracker.eventsIn(JsonUtils.binaryLength(json));
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a JSON input read through the {@link ParsedDocumentCache}, which is only parsed if the input is a
+     * string that is not already cached, or a UTF-8 encoded JSON held by a {@code byte[]} or a ByteBuffer.
+     *
+     * @param json the JSON input
+     */
+    public void parsedWithCache(Object json) {
+        if (json instanceof String) {
+            if (isEnabled() && !ParsedDocumentCache.contains((String) json)) {
+                parsed(json);
+            }
+        } else if (JsonUtils.isBinary(json)) {
+            parsed(json);
+        }
+    }
+
+    void reported(JsonDiagnostics.Condition condition) {
+        ThroughputTracker conditionTracker = conditionTrackers[condition.ordinal()];
+        if (conditionTracker != null && isEnabled()) {
+            conditionTracker.eventIn();
+        }
+    }
+
+    private ThroughputTracker createThroughputTracker(String queryName, String metricName) {
+        return QueryParserHelper.createThroughputTracker(siddhiAppContext, queryName,
+                SiddhiConstants.METRIC_INFIX_QUERIES, metricName);
+    }
+}
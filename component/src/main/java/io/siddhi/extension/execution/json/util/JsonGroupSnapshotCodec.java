@@ -0,0 +1,175 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.jayway.jsonpath.InvalidJsonException;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.util.config.ConfigReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary snapshot format of the state of the group aggregators. A snapshot starts with a version byte and a flags
+ * byte, followed by the number of distinct elements and, for each element, its count and its serialized JSON, with
+ * all the numbers written as variable length integers. The part after the header is deflated when compression is
+ * enabled.
+ */
+public final class JsonGroupSnapshotCodec {
+    public static final String SNAPSHOT_COMPRESSION = "snapshot.compression";
+    static final byte VERSION = 1;
+    private static final byte FLAG_DEFLATED = 1;
+
+    private JsonGroupSnapshotCodec() {
+    }
+
+    /**
+     * @param configReader the extension configuration reader
+     * @return whether the snapshots should be compressed
+     */
+    public static boolean readCompression(ConfigReader configReader) {
+        return Boolean.parseBoolean(configReader.readConfig(SNAPSHOT_COMPRESSION, "false").trim());
+    }
+
+    /**
+     * Encodes the given element counts, preserving their order.
+     *
+     * @param dataMap  the counts of the elements held by the aggregator
+     * @param compress whether to deflate the encoded elements
+     * @return the snapshot
+     */
+    public static byte[] encode(Map<JsonElementKey, Integer> dataMap, boolean compress) {
+        return encode(dataMap, compress, key -> JsonSerializer.toJSONString(key.getElement()));
+    }
+
+    /**
+     * Encodes the given element counts, preserving their order, using the given serializer for the elements.
+     *
+     * @param dataMap    the counts of the elements held by the aggregator
+     * @param compress   whether to deflate the encoded elements
+     * @param serializer the serializer returning the JSON string of an element, i.e. one that reuses the JSON
+     *                   strings already held by the aggregator
+     * @return the snapshot
+     */
+    public static byte[] encode(Map<JsonElementKey, Integer> dataMap, boolean compress,
+                                Function<JsonElementKey, String> serializer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + dataMap.size() * 32);
+        bytes.write(VERSION);
+        bytes.write(compress ? FLAG_DEFLATED : 0);
+        try (OutputStream out = compress ? new DeflaterOutputStream(bytes) : bytes) {
+            writeVarInt(out, dataMap.size());
+            for (Map.Entry<JsonElementKey, Integer> entry : dataMap.entrySet()) {
+                byte[] element = serializer.apply(entry.getKey()).getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, entry.getValue());
+                writeVarInt(out, element.length);
+                out.write(element);
+            }
+        } catch (IOException e) {
+            throw new SiddhiAppRuntimeException("Cannot encode the snapshot of the JSON group aggregator", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot created by {@link #encode}, parsing the elements with the default engine.
+     *
+     * @param snapshot the snapshot
+     * @return the counts of the elements, in the order they were encoded
+     * @throws SiddhiAppRuntimeException if the snapshot is of an unknown version or is corrupted
+     */
+    public static Map<JsonElementKey, Integer> decode(byte[] snapshot) {
+        return decode(snapshot, JsonSmartJsonEngine.STRICT);
+    }
+
+    /**
+     * Decodes a snapshot created by {@link #encode}.
+     *
+     * @param snapshot the snapshot
+     * @param engine   the engine parsing the elements
+     * @return the counts of the elements, in the order they were encoded
+     * @throws SiddhiAppRuntimeException if the snapshot is of an unknown version or is corrupted
+     */
+    public static Map<JsonElementKey, Integer> decode(byte[] snapshot, JsonEngine engine) {
+        if (snapshot.length < 2 || snapshot[0] != VERSION) {
+            throw new SiddhiAppRuntimeException("Cannot restore the JSON group aggregator from a snapshot of " +
+                    "unknown version " + (snapshot.length == 0 ? "''" : snapshot[0]) + ", supported version is " +
+                    VERSION);
+        }
+        InputStream bytes = new ByteArrayInputStream(snapshot, 2, snapshot.length - 2);
+        try (InputStream in = (snapshot[1] & FLAG_DEFLATED) != 0 ? new InflaterInputStream(bytes) : bytes) {
+            int size = readVarInt(in);
+            Map<JsonElementKey, Integer> dataMap = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                int count = readVarInt(in);
+                byte[] element = new byte[readVarInt(in)];
+                readFully(in, element);
+                dataMap.put(JsonElementKey.of(engine.parse(new String(element, StandardCharsets.UTF_8))), count);
+            }
+            return dataMap;
+        } catch (IOException | InvalidJsonException e) {
+            throw new SiddhiAppRuntimeException("Cannot restore the JSON group aggregator from a corrupted " +
+                    "snapshot", e);
+        }
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Unexpected end of the snapshot");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer in the snapshot");
+    }
+
+    private static void readFully(InputStream in, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            int read = in.read(buffer, offset, buffer.length - offset);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of the snapshot");
+            }
+            offset += read;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import net.minidev.json.JSONValue;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Per thread json-smart parsers. A {@link JSONParser} keeps its parsing state between calls and therefore cannot be
+ * shared between threads, while creating one per call discards the buffers it reuses. Each thread, i.e. each async
+ * worker of a stream, gets its own parser for each mode instead.
+ */
+public final class JsonParsers {
+    private static final ThreadLocal<JSONParser> permissiveParser =
+            ThreadLocal.withInitial(() -> new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE));
+    private static final ThreadLocal<JSONParser> simpleParser =
+            ThreadLocal.withInitial(() -> new JSONParser(JSONParser.MODE_JSON_SIMPLE));
+    private static final ThreadLocal<JSONParser> documentParser =
+            ThreadLocal.withInitial(() -> new JSONParser(JSONParser.MODE_PERMISSIVE));
+
+    private JsonParsers() {
+    }
+
+    /**
+     * Parses the given JSON string accepting the permissive syntax of json-smart, i.e. unquoted keys and values.
+     *
+     * @param json the JSON string
+     * @return the parsed JSON object, array or value
+     * @throws ParseException if the given string is not a valid JSON
+     */
+    public static Object parsePermissive(String json) throws ParseException {
+        return permissiveParser.get().parse(json);
+    }
+
+    /**
+     * Parses the given JSON string accepting the syntax of json-simple.
+     *
+     * @param json the JSON string
+     * @return the parsed JSON object, array or value
+     * @throws ParseException if the given string is not a valid JSON
+     */
+    public static Object parseSimple(String json) throws ParseException {
+        return simpleParser.get().parse(json);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON accepting the permissive syntax of json-smart. The bytes are decoded while
+     * they are parsed, as the byte array parser of json-smart decodes strings with the platform charset.
+     *
+     * @param json   the bytes holding the JSON
+     * @param offset the index of the first byte of the JSON
+     * @param length the number of bytes of the JSON
+     * @return the parsed JSON object, array or value
+     * @throws ParseException if the given bytes are not a valid JSON
+     */
+    public static Object parsePermissive(byte[] json, int offset, int length) throws ParseException {
+        return permissiveParser.get().parse(utf8Reader(json, offset, length));
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON accepting the syntax of json-simple.
+     *
+     * @param json   the bytes holding the JSON
+     * @param offset the index of the first byte of the JSON
+     * @param length the number of bytes of the JSON
+     * @return the parsed JSON object, array or value
+     * @throws ParseException if the given bytes are not a valid JSON
+     */
+    public static Object parseSimple(byte[] json, int offset, int length) throws ParseException {
+        return simpleParser.get().parse(utf8Reader(json, offset, length));
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON the way the json-smart provider of JsonPath parses strings, i.e. in the
+     * permissive mode and keeping the order of the keys.
+     *
+     * @param json   the bytes holding the JSON
+     * @param offset the index of the first byte of the JSON
+     * @param length the number of bytes of the JSON
+     * @return the parsed JSON object, array or value
+     * @throws ParseException if the given bytes are not a valid JSON
+     */
+    public static Object parseDocument(byte[] json, int offset, int length) throws ParseException {
+        return documentParser.get().parse(utf8Reader(json, offset, length), JSONValue.defaultReader.DEFAULT_ORDERED);
+    }
+
+    private static Reader utf8Reader(byte[] json, int offset, int length) {
+        return new InputStreamReader(new ByteArrayInputStream(json, offset, length), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of {@link CompiledJsonPath} instances, used for JSON path arguments that are not constants.
+ * Hit, miss and eviction counts are recorded so that the effectiveness of the cache can be observed.
+ */
+public class JsonPathCache {
+    private final int maxSize;
+    private final Map<String, CompiledJsonPath> compiledPaths;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public JsonPathCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("JSON path cache size should be a positive value, but found " +
+                    maxSize);
+        }
+        this.maxSize = maxSize;
+        this.compiledPaths = new LinkedHashMap<String, CompiledJsonPath>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledJsonPath> eldest) {
+                if (size() > JsonPathCache.this.maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled form of the given path, compiling and caching it if it is not already cached.
+     *
+     * @param path the JSON path
+     * @return the compiled JSON path
+     */
+    public CompiledJsonPath get(String path) {
+        CompiledJsonPath compiledPath;
+        synchronized (compiledPaths) {
+            compiledPath = compiledPaths.get(path);
+        }
+        if (compiledPath != null) {
+            hitCount.increment();
+            return compiledPath;
+        }
+        missCount.increment();
+        compiledPath = CompiledJsonPath.compile(path);
+        synchronized (compiledPaths) {
+            compiledPaths.put(path, compiledPath);
+        }
+        return compiledPath;
+    }
+
+    public int size() {
+        synchronized (compiledPaths) {
+            return compiledPaths.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
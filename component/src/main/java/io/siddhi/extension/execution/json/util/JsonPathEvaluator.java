@@ -0,0 +1,257 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.internal.EvaluationContext;
+import com.jayway.jsonpath.internal.Path;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Evaluates the 'path' argument of a JSON function over its 'json' argument.
+ * <p>
+ * Constant paths are compiled once during initialization, while dynamic paths are compiled on demand and kept in a
+ * bounded {@link JsonPathCache}. When streaming evaluation is enabled, simple definite paths over JSON strings are
+ * evaluated with the {@link StreamingJsonScanner}, which stops at the requested value unless 'streaming.validation' is
+ * set to true. A string is scanned only by the first function reading it, and is parsed once through the
+ * {@link ParsedDocumentCache} for the other functions reading it.
+ * <p>
+ * A path that does not exist in the JSON is reported by returning {@link #MISSING} instead of throwing. Simple
+ * definite paths are always resolved without exceptions. Other paths are evaluated by JsonPath, which throws and
+ * catches an exception for each miss unless 'missing.path.mode' is set to 'ignore', in which case they are evaluated
+ * with {@link Option#SUPPRESS_EXCEPTIONS} and misses are not expected to be logged by the functions. Definite paths
+ * are then evaluated once, collecting the matched paths along with the value to tell a missing path from a null.
+ */
+public class JsonPathEvaluator {
+    public static final String PATH_CACHE_SIZE = "path.cache.size";
+    public static final String STREAMING_EVALUATION = "streaming.evaluation";
+    public static final String STREAMING_VALIDATION = "streaming.validation";
+    public static final String MISSING_PATH_MODE = "missing.path.mode";
+    public static final String MISSING_PATH_MODE_LOG = "log";
+    public static final String MISSING_PATH_MODE_IGNORE = "ignore";
+    /**
+     * Returned by {@link #evaluate(Object, Object)} when the path does not exist in the JSON.
+     */
+    public static final Object MISSING = new Object();
+    private static final String DEFAULT_PATH_CACHE_SIZE = "256";
+    private static final Configuration SUPPRESSING_CONFIGURATION = Configuration.defaultConfiguration()
+            .addOptions(Option.SUPPRESS_EXCEPTIONS);
+    private final CompiledJsonPath constantPath;
+    private final JsonPathCache pathCache;
+    private final boolean streamingEnabled;
+    private final boolean streamingValidated;
+    private final boolean logMissingPaths;
+    private final JsonFunctionMetrics metrics;
+    private final JsonEngine engine;
+
+    /**
+     * @param pathExecutor       the executor of the 'path' argument
+     * @param configReader       the extension configuration reader
+     * @param functionName       the name of the function used in validation messages, i.e. 'json:getString'
+     * @param streamingSupported whether the function can use streaming evaluation, which can be turned off by
+     *                           setting 'streaming.evaluation' to false
+     * @param metrics            the metrics of the function, to which the parsed inputs are reported
+     * @throws SiddhiAppValidationException if the path or the configuration is invalid
+     */
+    public JsonPathEvaluator(ExpressionExecutor pathExecutor, ConfigReader configReader, String functionName,
+                             boolean streamingSupported, JsonFunctionMetrics metrics) {
+        this.metrics = metrics;
+        if (pathExecutor instanceof ConstantExpressionExecutor) {
+            String path = String.valueOf(((ConstantExpressionExecutor) pathExecutor).getValue());
+            try {
+                this.constantPath = CompiledJsonPath.compile(path);
+            } catch (InvalidPathException e) {
+                throw new SiddhiAppValidationException("Invalid JSON path '" + path + "' given to 'path' argument " +
+                        "of " + functionName + "() function. " + e.getMessage(), e);
+            }
+            this.pathCache = null;
+        } else {
+            String cacheSize = configReader.readConfig(PATH_CACHE_SIZE, DEFAULT_PATH_CACHE_SIZE);
+            try {
+                this.pathCache = new JsonPathCache(Integer.parseInt(cacheSize.trim()));
+            } catch (IllegalArgumentException e) {
+                throw new SiddhiAppValidationException("Invalid value '" + cacheSize + "' configured for '" +
+                        PATH_CACHE_SIZE + "' of " + functionName + "() function, required a positive integer", e);
+            }
+            this.constantPath = null;
+        }
+        this.streamingEnabled = streamingSupported &&
+                Boolean.parseBoolean(configReader.readConfig(STREAMING_EVALUATION, "true"));
+        this.streamingValidated = Boolean.parseBoolean(configReader.readConfig(STREAMING_VALIDATION, "false"));
+        String missingPathMode = configReader.readConfig(MISSING_PATH_MODE, MISSING_PATH_MODE_LOG).trim()
+                .toLowerCase(Locale.ENGLISH);
+        if (!MISSING_PATH_MODE_LOG.equals(missingPathMode) && !MISSING_PATH_MODE_IGNORE.equals(missingPathMode)) {
+            throw new SiddhiAppValidationException("Invalid value '" + missingPathMode + "' configured for '" +
+                    MISSING_PATH_MODE + "' of " + functionName + "() function, required '" + MISSING_PATH_MODE_LOG +
+                    "' or '" + MISSING_PATH_MODE_IGNORE + "'");
+        }
+        this.logMissingPaths = MISSING_PATH_MODE_LOG.equals(missingPathMode);
+        this.engine = JsonEngines.read(configReader, functionName);
+    }
+
+    /**
+     * Returns the compiled JSON path for the runtime value of the 'path' argument.
+     *
+     * @param path the runtime value of the 'path' argument
+     * @return the compiled JSON path
+     */
+    public CompiledJsonPath resolve(Object path) {
+        if (constantPath != null) {
+            return constantPath;
+        }
+        return pathCache.get(path.toString());
+    }
+
+    /**
+     * Evaluates the given path over the given JSON.
+     *
+     * @param json the runtime value of the 'json' argument
+     * @param path the runtime value of the 'path' argument
+     * @return the value at the path, or {@link #MISSING} if there is no element in the path
+     * @throws com.jayway.jsonpath.InvalidJsonException if the input is not a valid JSON
+     */
+    public Object evaluate(Object json, Object path) {
+        CompiledJsonPath compiledPath = resolve(path);
+        if (compiledPath.isSimple()) {
+            if (streamingEnabled && json instanceof String && ParsedDocumentCache.markRead((String) json)) {
+                Object value = StreamingJsonScanner.scan((String) json, compiledPath.getSegments(), engine,
+                        streamingValidated);
+                if (value == StreamingJsonScanner.NOT_FOUND) {
+                    return MISSING;
+                } else if (value != StreamingJsonScanner.UNSUPPORTED) {
+                    return value;
+                }
+            }
+        }
+        return evaluate(compiledPath, readDocument(json));
+    }
+
+    /**
+     * Evaluates the given path over a document returned by {@link JsonUtils#toDocument(Object, JsonEngine)}. Unlike
+     * {@link #evaluate(Object, Object)}, the document is never parsed, so a document which is a JSON string value is
+     * evaluated as that value.
+     *
+     * @param document the parsed JSON document
+     * @param path     the runtime value of the 'path' argument
+     * @return the value at the path, or {@link #MISSING} if there is no element in the path
+     */
+    public Object evaluateDocument(Object document, Object path) {
+        return evaluate(resolve(path), document);
+    }
+
+    private Object evaluate(CompiledJsonPath compiledPath, Object document) {
+        if (compiledPath.isSimple()) {
+            return walk(document, compiledPath.getSegments());
+        }
+        JsonPath jsonPath = compiledPath.getJsonPath();
+        if (logMissingPaths) {
+            try {
+                return jsonPath.read(document);
+            } catch (PathNotFoundException e) {
+                return MISSING;
+            }
+        }
+        Path definitePath = compiledPath.getDefinitePath();
+        if (definitePath == null) {
+            return jsonPath.read(document, SUPPRESSING_CONFIGURATION);
+        }
+        try {
+            // The matched paths are collected along with the values, telling a missing path from a null value.
+            EvaluationContext context = definitePath.evaluate(document, document, SUPPRESSING_CONFIGURATION);
+            return context.getPathList().isEmpty() ? MISSING : context.getValue(false);
+        } catch (RuntimeException e) {
+            // Suppressed as JsonPath#read does with Option#SUPPRESS_EXCEPTIONS.
+            return MISSING;
+        }
+    }
+
+    /**
+     * @return whether the functions are expected to log paths that are missing in the JSON
+     */
+    public boolean isMissingPathLogged() {
+        return logMissingPaths;
+    }
+
+    /**
+     * @return whether the streaming evaluation checks the whole JSON string, instead of stopping at the requested
+     * value
+     */
+    public boolean isStreamingValidated() {
+        return streamingValidated;
+    }
+
+    public boolean isConstant() {
+        return constantPath != null;
+    }
+
+    /**
+     * @return the engine configured for the function, which parses the JSON strings
+     */
+    public JsonEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * @return the cache used for dynamic paths, or null if the path is a constant
+     */
+    public JsonPathCache getPathCache() {
+        return pathCache;
+    }
+
+    private Object readDocument(Object json) {
+        metrics.parsedWithCache(json);
+        return JsonUtils.toDocument(json, engine);
+    }
+
+    private static Object walk(Object document, Object[] segments) {
+        Object current = document;
+        for (Object segment : segments) {
+            if (segment instanceof String) {
+                if (!(current instanceof Map)) {
+                    return MISSING;
+                }
+                Map map = (Map) current;
+                Object next = map.get(segment);
+                if (next == null && !map.containsKey(segment)) {
+                    return MISSING;
+                }
+                current = next;
+            } else {
+                int index = (Integer) segment;
+                if (!(current instanceof List) || index >= ((List) current).size()) {
+                    return MISSING;
+                }
+                current = ((List) current).get(index);
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.minidev.json.JSONValue;
+
+import java.io.IOException;
+
+/**
+ * Serializes values into JSON strings for all the functions of the extension. The JSON is written into a per thread
+ * buffer that is reused across calls, instead of into a new writer that grows while each value is serialized. The
+ * buffer adapts to the sizes of the values serialized by the thread: it is replaced by a smaller one when it has
+ * grown much larger than the recent outputs, so that a single large value does not retain memory.
+ * <p>
+ * Values can also be serialized into UTF-8 encoded bytes for binary sinks, which are encoded straight from the
+ * buffer into an array of the exact size, without creating the JSON string first.
+ */
+public final class JsonSerializer {
+    private static final int MIN_BUFFER_SIZE = 256;
+    private static final int SHRINK_FACTOR = 4;
+    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private static final ThreadLocal<BufferHolder> buffers = ThreadLocal.withInitial(BufferHolder::new);
+
+    private JsonSerializer() {
+    }
+
+    /**
+     * Serializes the given value with {@link Gson}, serializing nulls.
+     *
+     * @param value the value
+     * @return the JSON string of the value
+     */
+    public static String toJson(Object value) {
+        return toJson(value, false);
+    }
+
+    /**
+     * Serializes the given value with {@link Gson} into UTF-8 encoded bytes, serializing nulls.
+     *
+     * @param value the value
+     * @return the UTF-8 encoded JSON of the value
+     */
+    public static byte[] toBytes(Object value) {
+        return toBytes(value, false);
+    }
+
+    /**
+     * Serializes the given value with {@link Gson}, serializing nulls, and optionally escapes the result as a JSON
+     * string literal in the same pass.
+     *
+     * @param value  the value
+     * @param escape whether the JSON string should be escaped
+     * @return the JSON string of the value
+     */
+    public static String toJson(Object value, boolean escape) {
+        StringBuilder buffer = acquireBuffer();
+        try {
+            JsonStringEscaper.write(gson, value, escape, buffer);
+            return buffer.toString();
+        } catch (IOException e) {
+            // Appending to a StringBuilder does not fail.
+            throw new IllegalStateException(e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Serializes the given value with {@link Gson} into UTF-8 encoded bytes, the same as encoding the result of
+     * {@link #toJson(Object, boolean)}.
+     *
+     * @param value  the value
+     * @param escape whether the JSON string should be escaped
+     * @return the UTF-8 encoded JSON of the value
+     */
+    public static byte[] toBytes(Object value, boolean escape) {
+        StringBuilder buffer = acquireBuffer();
+        try {
+            JsonStringEscaper.write(gson, value, escape, buffer);
+            return toUtf8(buffer);
+        } catch (IOException e) {
+            // Appending to a StringBuilder does not fail.
+            throw new IllegalStateException(e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Encodes the given characters into UTF-8, the same as {@link String#getBytes(java.nio.charset.Charset)},
+     * replacing unpaired surrogates with '?'.
+     *
+     * @param chars the characters
+     * @return the UTF-8 encoded characters
+     */
+    public static byte[] toUtf8(CharSequence chars) {
+        int length = chars.length();
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                size++;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    size += 4;
+                    i++;
+                } else {
+                    size++;
+                }
+            } else {
+                size += 3;
+            }
+        }
+        byte[] bytes = new byte[size];
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                bytes[index++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[index++] = (byte) (0xC0 | (c >> 6));
+                bytes[index++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                    bytes[index++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[index++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[index++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[index++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    bytes[index++] = '?';
+                }
+            } else {
+                bytes[index++] = (byte) (0xE0 | (c >> 12));
+                bytes[index++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[index++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Serializes the given value with json-smart, the same as {@link JSONValue#toJSONString(Object)}.
+     *
+     * @param value the value
+     * @return the JSON string of the value
+     */
+    public static String toJSONString(Object value) {
+        StringBuilder buffer = acquireBuffer();
+        try {
+            JSONValue.writeJSONString(value, buffer);
+            return buffer.toString();
+        } catch (IOException e) {
+            // Appending to a StringBuilder does not fail.
+            throw new IllegalStateException(e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Returns the empty buffer of the current thread, which must be released with {@link #releaseBuffer} once the
+     * string has been built. If the buffer of the thread is already in use, a new buffer is returned.
+     *
+     * @return the buffer
+     */
+    public static StringBuilder acquireBuffer() {
+        BufferHolder holder = buffers.get();
+        if (holder.inUse) {
+            return new StringBuilder(MIN_BUFFER_SIZE);
+        }
+        holder.inUse = true;
+        holder.buffer.setLength(0);
+        return holder.buffer;
+    }
+
+    /**
+     * Releases a buffer returned by {@link #acquireBuffer}, so that it can be reused by the current thread.
+     *
+     * @param buffer the buffer
+     */
+    public static void releaseBuffer(StringBuilder buffer) {
+        BufferHolder holder = buffers.get();
+        if (holder.buffer != buffer) {
+            return;
+        }
+        holder.inUse = false;
+        holder.averageLength += (buffer.length() - holder.averageLength) / 8;
+        int retainedSize = Math.max(MIN_BUFFER_SIZE, holder.averageLength * SHRINK_FACTOR);
+        if (buffer.capacity() > retainedSize) {
+            holder.buffer = new StringBuilder(Math.max(MIN_BUFFER_SIZE, holder.averageLength * 2));
+        }
+    }
+
+    /**
+     * @return the capacity of the buffer of the current thread
+     */
+    static int bufferCapacity() {
+        return buffers.get().buffer.capacity();
+    }
+
+    /**
+     * Buffer of a thread, along with the moving average of the lengths of the strings built with it.
+     */
+    private static final class BufferHolder {
+        private StringBuilder buffer = new StringBuilder(MIN_BUFFER_SIZE);
+        private int averageLength;
+        private boolean inUse;
+    }
+}
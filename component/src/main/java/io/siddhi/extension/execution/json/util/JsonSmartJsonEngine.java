@@ -0,0 +1,89 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+import net.minidev.json.parser.ParseException;
+
+/**
+ * The default engine, which parses with json-smart and serializes with Gson, as the functions always did.
+ * <p>
+ * Documents evaluated with JsonPath are parsed by the json-smart provider of JsonPath, which keeps the order of the
+ * keys, while json:toObject and the group aggregators use the per thread parsers of {@link JsonParsers}.
+ */
+final class JsonSmartJsonEngine implements JsonEngine {
+    static final JsonSmartJsonEngine DOCUMENT = new JsonSmartJsonEngine(Mode.DOCUMENT);
+    static final JsonSmartJsonEngine PERMISSIVE = new JsonSmartJsonEngine(Mode.PERMISSIVE);
+    static final JsonSmartJsonEngine STRICT = new JsonSmartJsonEngine(Mode.STRICT);
+    private static final JsonProvider jsonProvider = Configuration.defaultConfiguration().jsonProvider();
+    private final Mode mode;
+
+    private JsonSmartJsonEngine(Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public String getName() {
+        return JsonEngines.JSON_SMART;
+    }
+
+    @Override
+    public Object parse(String json) {
+        try {
+            switch (mode) {
+                case DOCUMENT:
+                    return jsonProvider.parse(json);
+                case PERMISSIVE:
+                    return JsonParsers.parsePermissive(json);
+                default:
+                    return JsonParsers.parseSimple(json);
+            }
+        } catch (ParseException e) {
+            throw new InvalidJsonException(e);
+        }
+    }
+
+    @Override
+    public Object parse(byte[] json, int offset, int length) {
+        try {
+            switch (mode) {
+                case DOCUMENT:
+                    return JsonParsers.parseDocument(json, offset, length);
+                case PERMISSIVE:
+                    return JsonParsers.parsePermissive(json, offset, length);
+                default:
+                    return JsonParsers.parseSimple(json, offset, length);
+            }
+        } catch (ParseException e) {
+            throw new InvalidJsonException(e);
+        }
+    }
+
+    @Override
+    public String toJson(Object value) {
+        return JsonSerializer.toJson(value);
+    }
+
+    private enum Mode {
+        DOCUMENT, PERMISSIVE, STRICT
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Serializes values into JSON strings, optionally escaping the result as a JSON string literal in the same pass.
+ * The escaping follows the rules of the default {@link Gson} instance, including its HTML safe escapes, so that the
+ * result is the same as serializing the value and then serializing the resulting string again, without building the
+ * intermediate string. Strings are written directly without going through {@link Gson}. Used through
+ * {@link JsonSerializer}.
+ */
+final class JsonStringEscaper {
+    private static final char LINE_SEPARATOR = 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final String[] REPLACEMENTS = new String[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            REPLACEMENTS[i] = unicodeEscape((char) i);
+        }
+        REPLACEMENTS['"'] = "\\\"";
+        REPLACEMENTS['\\'] = "\\\\";
+        REPLACEMENTS['\t'] = "\\t";
+        REPLACEMENTS['\b'] = "\\b";
+        REPLACEMENTS['\n'] = "\\n";
+        REPLACEMENTS['\r'] = "\\r";
+        REPLACEMENTS['\f'] = "\\f";
+        REPLACEMENTS['<'] = unicodeEscape('<');
+        REPLACEMENTS['>'] = unicodeEscape('>');
+        REPLACEMENTS['&'] = unicodeEscape('&');
+        REPLACEMENTS['='] = unicodeEscape('=');
+        REPLACEMENTS['\''] = unicodeEscape('\'');
+    }
+
+    private JsonStringEscaper() {
+    }
+
+    /**
+     * Writes the JSON string of the given value into the given buffer.
+     *
+     * @param gson   the Gson instance used to serialize values other than strings
+     * @param value  the value to be serialized
+     * @param escape whether the JSON string should be written as an escaped JSON string literal
+     * @param out    the buffer
+     * @throws IOException never, as appending to a {@link StringBuilder} does not fail
+     */
+    static void write(Gson gson, Object value, boolean escape, StringBuilder out) throws IOException {
+        if (escape) {
+            out.append('"');
+            write(gson, value, new EscapingWriter(out));
+            out.append('"');
+        } else {
+            write(gson, value, out);
+        }
+    }
+
+    private static void write(Gson gson, Object value, Appendable out) throws IOException {
+        if (value instanceof String) {
+            out.append('"');
+            escape((String) value, 0, ((String) value).length(), out);
+            out.append('"');
+        } else {
+            gson.toJson(value, out);
+        }
+    }
+
+    private static void escape(CharSequence value, int start, int end, Appendable out) throws IOException {
+        int last = start;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            String replacement = replacement(c);
+            if (replacement != null) {
+                if (last < i) {
+                    out.append(value, last, i);
+                }
+                out.append(replacement);
+                last = i + 1;
+            }
+        }
+        if (last < end) {
+            out.append(value, last, end);
+        }
+    }
+
+    private static String replacement(char c) {
+        if (c < 128) {
+            return REPLACEMENTS[c];
+        } else if (c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR) {
+            return c == LINE_SEPARATOR ? "\\u2028" : "\\u2029";
+        }
+        return null;
+    }
+
+    private static String unicodeEscape(char c) {
+        return new String(new char[]{'\\', 'u', HEX_DIGITS[(c >> 12) & 0xF], HEX_DIGITS[(c >> 8) & 0xF],
+                HEX_DIGITS[(c >> 4) & 0xF], HEX_DIGITS[c & 0xF]});
+    }
+
+    /**
+     * Writer escaping everything written to it into the given buffer.
+     */
+    private static final class EscapingWriter extends Writer {
+        private final StringBuilder out;
+
+        private EscapingWriter(StringBuilder out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            String replacement = replacement((char) c);
+            if (replacement != null) {
+                out.append(replacement);
+            } else {
+                out.append((char) c);
+            }
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                write(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String value, int offset, int length) throws IOException {
+            escape(value, offset, offset + length, out);
+        }
+
+        @Override
+        public Writer append(CharSequence value) throws IOException {
+            escape(value, 0, value.length(), out);
+            return this;
+        }
+
+        @Override
+        public Writer append(CharSequence value, int start, int end) throws IOException {
+            escape(value, start, end, out);
+            return this;
+        }
+
+        @Override
+        public Writer append(char c) throws IOException {
+            write(c);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
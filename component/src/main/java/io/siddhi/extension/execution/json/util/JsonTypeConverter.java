@@ -0,0 +1,80 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import io.siddhi.query.api.definition.Attribute;
+
+import java.util.List;
+
+/**
+ * Converts values read from JSON documents into Siddhi attribute types, following the same rules as the
+ * json:get* functions.
+ */
+public final class JsonTypeConverter {
+
+    private JsonTypeConverter() {
+    }
+
+    /**
+     * Converts the given JSON value into the given type. Single element arrays are unwrapped for all types other
+     * than STRING, and values that cannot be converted result in null.
+     *
+     * @param value the JSON value
+     * @param type  the required attribute type
+     * @return the converted value, or null if the value cannot be converted
+     */
+    public static Object convert(Object value, Attribute.Type type) {
+        if (value instanceof List && type != Attribute.Type.STRING) {
+            if (((List) value).size() != 1) {
+                return type == Attribute.Type.OBJECT ? value : null;
+            }
+            value = ((List) value).get(0);
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            switch (type) {
+                case STRING:
+                    return value instanceof String ? value : JsonSerializer.toJson(value);
+                case INT:
+                    return Integer.parseInt(value.toString());
+                case LONG:
+                    return Long.parseLong(value.toString());
+                case DOUBLE:
+                    return Double.parseDouble(value.toString());
+                case FLOAT:
+                    return Float.parseFloat(value.toString());
+                case BOOL:
+                    String stringValue = value.toString();
+                    if (stringValue.equalsIgnoreCase("true")) {
+                        return true;
+                    } else if (stringValue.equalsIgnoreCase("false")) {
+                        return false;
+                    }
+                    return null;
+                default:
+                    return value;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
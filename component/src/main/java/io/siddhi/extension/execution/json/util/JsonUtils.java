@@ -0,0 +1,216 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility methods for converting the 'json' arguments of the JSON functions into documents that can be evaluated
+ * with JsonPath.
+ * <p>
+ * Besides JSON strings and trees, the 'json' arguments can be UTF-8 encoded JSON held by a {@code byte[]} or a
+ * {@link ByteBuffer}, which are parsed from the bytes without decoding them into strings. Unlike strings, byte
+ * arrays and buffers can be modified after they are parsed, so they are not shared through the
+ * {@link ParsedDocumentCache} and are parsed by each function reading them.
+ */
+public final class JsonUtils {
+    private static final JsonProvider jsonProvider = Configuration.defaultConfiguration().jsonProvider();
+    private static final int MAX_DESCRIBED_BYTES = 256;
+
+    private JsonUtils() {
+    }
+
+    /**
+     * Returns a read only document for the given JSON input. Strings are parsed through the
+     * {@link ParsedDocumentCache}, and {@link Map} and {@link List} trees such as the ones produced by json:toObject
+     * are traversed in place without being serialized and parsed again. Values read from the document must be
+     * passed through {@link #detach(Object, JsonEngine)} before they are emitted.
+     *
+     * @param json   the JSON string or object
+     * @param engine the engine parsing the JSON strings
+     * @return the JSON document
+     */
+    public static Object toDocument(Object json, JsonEngine engine) {
+        if (json instanceof String) {
+            return ParsedDocumentCache.parse((String) json, engine);
+        } else if (json instanceof Map || json instanceof List) {
+            return json;
+        } else if (isBinary(json)) {
+            return parseBinary(json, engine);
+        }
+        return engine.parse(engine.toJson(json));
+    }
+
+    /**
+     * Returns a value read from a document returned by {@link #toDocument(Object, JsonEngine)} in a form that can be
+     * emitted from the extension. JSON objects and arrays are copied, since they are part of a document that can be
+     * shared through the {@link ParsedDocumentCache}, while other values are immutable and returned as they are.
+     *
+     * @param value  the value read from the document
+     * @param engine the engine converting the values which are not JSON types
+     * @return the value owned by the caller
+     */
+    public static Object detach(Object value, JsonEngine engine) {
+        if (value instanceof Map || value instanceof List) {
+            return deepCopy(value, engine);
+        }
+        return value;
+    }
+
+    /**
+     * Returns a document for the given JSON input which is owned by the caller and can be modified without
+     * affecting the input.
+     *
+     * @param json   the JSON string or object
+     * @param engine the engine parsing the JSON strings
+     * @return the modifiable JSON document
+     */
+    public static Object toModifiableDocument(Object json, JsonEngine engine) {
+        if (json instanceof String) {
+            return engine.parse((String) json);
+        } else if (json instanceof Map || json instanceof List) {
+            return deepCopy(json, engine);
+        } else if (isBinary(json)) {
+            return parseBinary(json, engine);
+        }
+        return engine.parse(engine.toJson(json));
+    }
+
+    /**
+     * @param json the JSON input
+     * @return whether the input is a UTF-8 encoded JSON held by a {@code byte[]} or a {@link ByteBuffer}
+     */
+    public static boolean isBinary(Object json) {
+        return json instanceof byte[] || json instanceof ByteBuffer;
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON held by a {@code byte[]}, or by the remaining bytes of a {@link ByteBuffer}
+     * without changing the position of the buffer.
+     *
+     * @param json   the byte array or buffer
+     * @param engine the engine parsing the JSON
+     * @return the parsed JSON object, array or value
+     * @throws com.jayway.jsonpath.InvalidJsonException if the bytes are not a valid JSON
+     */
+    public static Object parseBinary(Object json, JsonEngine engine) {
+        if (json instanceof byte[]) {
+            byte[] bytes = (byte[]) json;
+            return engine.parse(bytes, 0, bytes.length);
+        }
+        ByteBuffer buffer = (ByteBuffer) json;
+        if (buffer.hasArray()) {
+            return engine.parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return engine.parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @param json the UTF-8 encoded JSON held by a {@code byte[]} or a {@link ByteBuffer}
+     * @return the number of bytes of the JSON
+     */
+    static int binaryLength(Object json) {
+        return json instanceof byte[] ? ((byte[]) json).length : ((ByteBuffer) json).remaining();
+    }
+
+    /**
+     * Describes a JSON input in error messages. UTF-8 encoded JSON held by a {@code byte[]} or a {@link ByteBuffer}
+     * is decoded, up to its first 256 bytes, instead of printing the identity of the array or buffer.
+     *
+     * @param json the JSON input
+     * @return the description of the input
+     */
+    public static String describe(Object json) {
+        if (!isBinary(json)) {
+            return String.valueOf(json);
+        }
+        int length = binaryLength(json);
+        byte[] bytes = new byte[Math.min(length, MAX_DESCRIBED_BYTES)];
+        if (json instanceof byte[]) {
+            System.arraycopy(json, 0, bytes, 0, bytes.length);
+        } else {
+            ((ByteBuffer) json).duplicate().get(bytes);
+        }
+        String description = new String(bytes, StandardCharsets.UTF_8);
+        return length > bytes.length ? description + "... (" + length + " bytes)" : description;
+    }
+
+    /**
+     * Copies the given JSON tree into the map and array types used by JsonPath, keeping json-smart
+     * {@link JSONObject}s and {@link JSONArray}s as such. Immutable leaf values are shared with the original tree.
+     *
+     * @param value  the JSON tree
+     * @param engine the engine converting the values which are not JSON types
+     * @return the copy of the JSON tree
+     */
+    public static Object deepCopy(Object value, JsonEngine engine) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        } else if (value instanceof Map) {
+            Object copy = value instanceof JSONObject ? new JSONObject() : jsonProvider.createMap();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                jsonProvider.setProperty(copy, String.valueOf(entry.getKey()), deepCopy(entry.getValue(), engine));
+            }
+            return copy;
+        } else if (value instanceof List) {
+            Object copy = value instanceof JSONArray ? new JSONArray() : jsonProvider.createArray();
+            int index = 0;
+            for (Object element : (List<?>) value) {
+                jsonProvider.setArrayIndex(copy, index++, deepCopy(element, engine));
+            }
+            return copy;
+        }
+        return engine.parse(engine.toJson(value));
+    }
+
+    /**
+     * Converts the given JSON tree into {@link ReadOnlyJSONObject}s and {@link ReadOnlyJSONArray}s, so that it can be
+     * shared with the downstream without being copied again. Trees that are already read only are returned as they
+     * are.
+     *
+     * @param value the JSON tree
+     * @return the read only JSON tree
+     */
+    public static Object toReadOnly(Object value) {
+        if (value instanceof ReadOnlyJSONObject || value instanceof ReadOnlyJSONArray) {
+            return value;
+        } else if (value instanceof Map) {
+            return new ReadOnlyJSONObject((Map<?, ?>) value);
+        } else if (value instanceof List) {
+            List<Object> elements = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                elements.add(toReadOnly(element));
+            }
+            return new ReadOnlyJSONArray(elements);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Per thread memo of recently parsed JSON documents, keyed by the identity of the input string. When several JSON
+ * functions of a query extract values from the same string attribute of an event, the string is parsed only once
+ * and the parsed document is shared between them. A string which is scanned by a function without being parsed is
+ * also {@link #markRead(String) recorded}, so that it is parsed, once, when another function reads it.
+ * <p>
+ * Since the documents are shared, they must never leave the extension. Values read from them are emitted through
+ * {@link JsonUtils#detach(Object, JsonEngine)}, which copies the JSON objects and arrays, so that a consumer
+ * modifying an emitted value cannot change what is read from the same string later. A document is only shared
+ * between functions that parse with the same {@link JsonEngine}.
+ * <p>
+ * The documents are only weakly referenced, so that the memo does not keep the documents of past events alive, and
+ * the stream processors {@link #clear() clear} the memo once they are done with an event chunk.
+ */
+public final class ParsedDocumentCache {
+    private static final int SLOT_COUNT = 4;
+    private static final ThreadLocal<ParsedDocumentCache> threadLocalCache =
+            ThreadLocal.withInitial(ParsedDocumentCache::new);
+
+    private final WeakReference[] sources = new WeakReference[SLOT_COUNT];
+    private final JsonEngine[] engines = new JsonEngine[SLOT_COUNT];
+    private final WeakReference[] documents = new WeakReference[SLOT_COUNT];
+    private int nextSlot = 0;
+
+    private ParsedDocumentCache() {
+    }
+
+    /**
+     * Returns the parsed form of the given JSON string, reusing the document parsed for the same string instance
+     * by an earlier call on the current thread.
+     *
+     * @param json   the JSON string
+     * @param engine the engine parsing the string
+     * @return the parsed JSON document, which must not be modified or emitted
+     * @throws com.jayway.jsonpath.InvalidJsonException if the given string is not a valid JSON
+     */
+    public static Object parse(String json, JsonEngine engine) {
+        return threadLocalCache.get().getOrParse(json, engine);
+    }
+
+    /**
+     * Checks whether the given JSON string instance is already parsed on the current thread.
+     *
+     * @param json the JSON string
+     * @return true if the parsed document is available
+     */
+    public static boolean contains(String json) {
+        ParsedDocumentCache cache = threadLocalCache.get();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (cache.sources[i] != null && cache.sources[i].get() == json && cache.documents[i] != null
+                    && cache.documents[i].get() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records that the given JSON string instance is read on the current thread without being parsed, unless it was
+     * already read or parsed. A function can scan the string only when this returns true, and otherwise parses it
+     * through {@link #parse(String, JsonEngine)}, so that a string read by several functions is scanned once and
+     * parsed once, instead of being scanned by each of them.
+     *
+     * @param json the JSON string
+     * @return true if the string was neither read nor parsed on the current thread before
+     */
+    public static boolean markRead(String json) {
+        ParsedDocumentCache cache = threadLocalCache.get();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (cache.sources[i] != null && cache.sources[i].get() == json) {
+                return false;
+            }
+        }
+        cache.store(json, null, null);
+        return true;
+    }
+
+    /**
+     * Removes all the documents parsed on the current thread.
+     */
+    public static void clear() {
+        ParsedDocumentCache cache = threadLocalCache.get();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            cache.sources[i] = null;
+            cache.engines[i] = null;
+            cache.documents[i] = null;
+        }
+        cache.nextSlot = 0;
+    }
+
+    private Object getOrParse(String json, JsonEngine engine) {
+        int readSlot = -1;
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (sources[i] != null && sources[i].get() == json) {
+                if (documents[i] == null) {
+                    readSlot = i;
+                } else if (engines[i] == engine) {
+                    Object document = documents[i].get();
+                    if (document != null) {
+                        return document;
+                    }
+                }
+            }
+        }
+        Object document = engine.parse(json);
+        if (readSlot >= 0) {
+            // The string was only read so far, so its slot takes the parsed document.
+            engines[readSlot] = engine;
+            documents[readSlot] = new WeakReference<>(document);
+        } else {
+            store(json, engine, document);
+        }
+        return document;
+    }
+
+    private void store(String json, JsonEngine engine, Object document) {
+        sources[nextSlot] = new WeakReference<>(json);
+        engines[nextSlot] = engine;
+        documents[nextSlot] = document == null ? null : new WeakReference<>(document);
+        nextSlot = (nextSlot + 1) % SLOT_COUNT;
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Evaluates simple definite JSON paths (see {@link CompiledJsonPath#getSegments()}) directly over a JSON string.
+ * The scanner walks the characters of the input and skips the subtrees that are not on the path without
+ * materializing them. Only the target value is parsed, with the {@link JsonEngine} of the function.
+ * <p>
+ * By default the scanner stops as soon as the target value is found, so the syntax of the input is only checked up
+ * to the end of that value, and the first occurrence of a duplicate key on the path is used. When validation is
+ * requested the whole input is scanned and its syntax checked, so that a document which a full parse would reject
+ * is never evaluated by the scanner, and the last occurrence of a duplicate key is used, as the engines do.
+ * Whenever it meets a construct it does not handle, such as the single quoted strings and unquoted keys accepted
+ * by json-smart, the scanner returns {@link #UNSUPPORTED} so that the caller falls back to a full parse, which
+ * either evaluates or rejects the document.
+ */
+public final class StreamingJsonScanner {
+    /**
+     * Returned when the document was scanned and has no element in the given path.
+     */
+    public static final Object NOT_FOUND = new Object();
+    /**
+     * Returned when the document cannot be evaluated by the scanner.
+     */
+    public static final Object UNSUPPORTED = new Object();
+    /**
+     * Returned by {@link #split} when the document has no element in the given path.
+     */
+    public static final int SPLIT_NOT_FOUND = -1;
+    /**
+     * Returned by {@link #split} when the path does not select an array that can be split by the scanner.
+     */
+    public static final int SPLIT_UNSUPPORTED = -2;
+    private static final int MAX_NESTING = 512;
+
+    private final String json;
+    private final int length;
+    private final Object[] segments;
+    private final boolean validate;
+    private int position;
+    private int targetStart = -1;
+    private int targetEnd;
+    private boolean found;
+    private boolean splitting;
+
+    private StreamingJsonScanner(String json, Object[] segments, boolean validate) {
+        this.json = json;
+        this.length = json.length();
+        this.segments = segments;
+        this.validate = validate;
+    }
+
+    /**
+     * Locates the value at the given path segments.
+     *
+     * @param json     the JSON string
+     * @param segments the property names and array indexes of the path
+     * @param engine   the engine parsing the located value
+     * @param validate whether the whole document is checked, instead of stopping at the located value
+     * @return the value, {@link #NOT_FOUND} or {@link #UNSUPPORTED}
+     */
+    public static Object scan(String json, Object[] segments, JsonEngine engine, boolean validate) {
+        StreamingJsonScanner scanner = new StreamingJsonScanner(json, segments, validate);
+        if (!scanner.scanDocument()) {
+            return UNSUPPORTED;
+        } else if (scanner.targetStart < 0) {
+            return NOT_FOUND;
+        }
+        return engine.parse(json.substring(scanner.targetStart, scanner.targetEnd));
+    }
+
+    /**
+     * Splits the array at the given path segments into the original text of its elements, without parsing them.
+     * Unless validating, the scan stops after the last requested element of the array. The scanned elements are
+     * checked before any of them is passed to the consumer, so that no elements are passed when the array cannot be
+     * split, and then each requested element is passed to the consumer along with its index.
+     *
+     * @param json            the JSON string
+     * @param segments        the property names and array indexes of the path
+     * @param offset          the number of elements skipped at the beginning of the array
+     * @param limit           the maximum number of elements passed to the consumer
+     * @param validate        whether the whole document is checked before splitting the array
+     * @param elementConsumer the consumer of the text and the index of each element
+     * @return the number of elements scanned, {@link #SPLIT_NOT_FOUND} or {@link #SPLIT_UNSUPPORTED}
+     */
+    public static int split(String json, Object[] segments, int offset, int limit, boolean validate,
+                            ObjIntConsumer<String> elementConsumer) {
+        StreamingJsonScanner scanner = new StreamingJsonScanner(json, segments, validate);
+        scanner.splitting = true;
+        if (!scanner.scanDocument()) {
+            return SPLIT_UNSUPPORTED;
+        } else if (scanner.targetStart < 0) {
+            return SPLIT_NOT_FOUND;
+        } else if (json.charAt(scanner.targetStart) != '[') {
+            return SPLIT_UNSUPPORTED;
+        }
+        int end = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+        return scanner.splitArray(scanner.targetStart, offset, end, elementConsumer);
+    }
+
+    /**
+     * Scans the elements of the array starting at the given position up to the given end index, and then passes the
+     * elements from the given offset to the consumer.
+     *
+     * @return the number of elements scanned, or {@link #SPLIT_UNSUPPORTED} if the scanned elements are not well
+     * formed
+     */
+    private int splitArray(int start, int offset, int end, ObjIntConsumer<String> elementConsumer) {
+        position = start + 1;
+        skipWhitespace();
+        if (consume(']')) {
+            return 0;
+        }
+        List<String> elements = new ArrayList<>();
+        int count = 0;
+        while (true) {
+            skipWhitespace();
+            int elementStart = position;
+            if (!scanValue(0, -1)) {
+                return SPLIT_UNSUPPORTED;
+            }
+            if (count >= offset) {
+                elements.add(json.substring(elementStart, position));
+            }
+            count++;
+            skipWhitespace();
+            if (consume(']') || count >= end) {
+                break;
+            } else if (!consume(',')) {
+                return SPLIT_UNSUPPORTED;
+            }
+        }
+        for (int i = 0; i < elements.size(); i++) {
+            elementConsumer.accept(elements.get(i), offset + i);
+        }
+        return count;
+    }
+
+    /**
+     * Scans the document, recording the position of the value at the path. Unless validating, the scan stops once
+     * that value is found.
+     *
+     * @return whether the scanned part of the document is well formed and supported by the scanner
+     */
+    private boolean scanDocument() {
+        skipWhitespace();
+        if (!scanValue(0, 0)) {
+            return false;
+        } else if (found) {
+            return true;
+        }
+        skipWhitespace();
+        return position == length;
+    }
+
+    /**
+     * Scans the value at the current position.
+     *
+     * @param nesting the number of containers enclosing the value
+     * @param matched the number of path segments leading to the value, or -1 if the value is not on the path
+     * @return whether the value is well formed and supported by the scanner
+     */
+    private boolean scanValue(int nesting, int matched) {
+        if (position >= length || nesting > MAX_NESTING) {
+            return false;
+        }
+        int start = position;
+        if (splitting && !validate && matched == segments.length) {
+            // The array is scanned by splitArray, only up to the last requested element.
+            targetStart = start;
+            found = true;
+            return true;
+        }
+        Object segment = matched >= 0 && matched < segments.length ? segments[matched] : null;
+        char c = json.charAt(position);
+        boolean valid;
+        if (c == '{') {
+            valid = scanObject(nesting + 1, segment instanceof String ? (String) segment : null, matched + 1);
+        } else if (c == '[') {
+            valid = scanArray(nesting + 1, segment instanceof Integer ? (Integer) segment : -1, matched + 1);
+        } else if (c == '"') {
+            valid = scanString();
+        } else {
+            valid = scanLiteral();
+        }
+        if (valid && matched == segments.length) {
+            targetStart = start;
+            targetEnd = position;
+            found = !validate;
+        }
+        return valid;
+    }
+
+    private boolean scanObject(int nesting, String name, int matched) {
+        position++;
+        skipWhitespace();
+        if (consume('}')) {
+            return true;
+        }
+        while (true) {
+            skipWhitespace();
+            int keyMatch = scanKey(name);
+            if (keyMatch < 0) {
+                return false;
+            }
+            skipWhitespace();
+            if (!consume(':')) {
+                return false;
+            }
+            skipWhitespace();
+            if (keyMatch == 1) {
+                // A repeated key replaces the earlier occurrences, along with any target found under them.
+                targetStart = -1;
+            }
+            if (!scanValue(nesting, keyMatch == 1 ? matched : -1)) {
+                return false;
+            } else if (found) {
+                return true;
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                return true;
+            } else if (!consume(',')) {
+                return false;
+            }
+        }
+    }
+
+    private boolean scanArray(int nesting, int index, int matched) {
+        position++;
+        skipWhitespace();
+        if (consume(']')) {
+            return true;
+        }
+        for (int i = 0; ; i++) {
+            skipWhitespace();
+            if (!scanValue(nesting, i == index ? matched : -1)) {
+                return false;
+            } else if (found) {
+                return true;
+            }
+            skipWhitespace();
+            if (consume(']')) {
+                return true;
+            } else if (!consume(',')) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reads the key at the current position and compares it with the given name.
+     *
+     * @param name the name of the property on the path, or null if the object is not on the path
+     * @return 1 if matched, 0 if not matched and -1 if the key is not a double quoted string without escapes
+     */
+    private int scanKey(String name) {
+        if (position >= length || json.charAt(position) != '"') {
+            return -1;
+        }
+        int start = position + 1;
+        int end = start;
+        while (end < length && json.charAt(end) != '"') {
+            char c = json.charAt(end);
+            if (c == '\\' || c < 0x20) {
+                return -1;
+            }
+            end++;
+        }
+        if (end >= length) {
+            return -1;
+        }
+        position = end + 1;
+        return (name != null && end - start == name.length() && json.regionMatches(start, name, 0, name.length()))
+                ? 1 : 0;
+    }
+
+    private boolean scanString() {
+        position++;
+        while (position < length) {
+            char c = json.charAt(position++);
+            if (c == '"') {
+                return true;
+            } else if (c < 0x20) {
+                return false;
+            } else if (c == '\\') {
+                if (position >= length) {
+                    return false;
+                }
+                char escaped = json.charAt(position++);
+                if (escaped == 'u') {
+                    if (position + 4 > length) {
+                        return false;
+                    }
+                    for (int i = 0; i < 4; i++) {
+                        if (Character.digit(json.charAt(position++), 16) < 0) {
+                            return false;
+                        }
+                    }
+                } else if ("\"\\/bfnrt".indexOf(escaped) < 0) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean scanLiteral() {
+        if (json.startsWith("true", position)) {
+            position += 4;
+        } else if (json.startsWith("false", position)) {
+            position += 5;
+        } else if (json.startsWith("null", position)) {
+            position += 4;
+        } else if (!scanNumber()) {
+            return false;
+        }
+        if (position >= length) {
+            return true;
+        }
+        char c = json.charAt(position);
+        return c == ',' || c == '}' || c == ']' || isWhitespace(c);
+    }
+
+    private boolean scanNumber() {
+        consume('-');
+        if (!consume('0') && skipDigits() == 0) {
+            return false;
+        }
+        if (consume('.') && skipDigits() == 0) {
+            return false;
+        }
+        if (consume('e') || consume('E')) {
+            if (!consume('+')) {
+                consume('-');
+            }
+            return skipDigits() > 0;
+        }
+        return true;
+    }
+
+    private int skipDigits() {
+        int start = position;
+        while (position < length && json.charAt(position) >= '0' && json.charAt(position) <= '9') {
+            position++;
+        }
+        return position - start;
+    }
+
+    private boolean consume(char expected) {
+        if (position < length && json.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < length && isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+}
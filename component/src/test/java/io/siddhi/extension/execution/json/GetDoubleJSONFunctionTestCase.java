@@ -133,4 +133,59 @@ public class GetDoubleJSONFunctionTestCase {
         inputHandler.send(new Object[]{jsonObject, "$.married"});
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testGetDoubleFromNestedJSON() throws InterruptedException {
+        log.info("GetDoubleJSONFunctionTestCase - testGetDoubleFromNestedJSON");
+        String nestedJson = "{\"header\": {\"id\": \"a\\\"}b\", 'tags': [\"x\", {\"y\": [1, 2]}]}, " +
+                "\"items\": [{\"sku\": \"s1\", \"price\": 10.5}, {\"sku\": \"s2\", \"price\": -2.5e2}], " +
+                "\"total\": 8}";
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string,path string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:getDouble(json,path) as value\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    switch (count.get()) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.5, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(-250.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(8.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(2.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(null, event.getData(0));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(null, event.getData(0));
+                            break;
+                    }
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{nestedJson, "$.items[0].price"});
+        inputHandler.send(new Object[]{nestedJson, "$['items'][1]['price']"});
+        inputHandler.send(new Object[]{nestedJson, "$.total"});
+        inputHandler.send(new Object[]{nestedJson, "$.header.tags[1].y[1]"});
+        inputHandler.send(new Object[]{nestedJson, "$.items[2].price"});
+        inputHandler.send(new Object[]{nestedJson, "$.header.id"});
+        AssertJUnit.assertEquals(6, count.get());
+        siddhiAppRuntime.shutdown();
+    }
 }
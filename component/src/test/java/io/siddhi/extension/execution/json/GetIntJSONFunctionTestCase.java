@@ -23,6 +23,7 @@ import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.event.Event;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.config.InMemoryConfigManager;
 import io.siddhi.core.util.EventPrinter;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -33,6 +34,8 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class GetIntJSONFunctionTestCase {
@@ -132,4 +135,140 @@ public class GetIntJSONFunctionTestCase {
         inputHandler.send(new Object[]{jsonObject, "$.married"});
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testGetIntFromJSONWithMultipleExtractions() throws InterruptedException {
+        log.info("GetIntJSONFunctionTestCase - testGetIntFromJSONWithMultipleExtractions");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:getInt(json, '$.age') as age, json:getString(json, '$.name') as name, " +
+                "json:getBool(json, '$.citizen') as citizen, json:isExists(json, '$.married') as isMarriedExists\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    switch (count.get()) {
+                        case 1:
+                            AssertJUnit.assertEquals(25, event.getData(0));
+                            AssertJUnit.assertEquals("John", event.getData(1));
+                            AssertJUnit.assertEquals(false, event.getData(2));
+                            AssertJUnit.assertEquals(false, event.getData(3));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(30, event.getData(0));
+                            AssertJUnit.assertEquals("Peter", event.getData(1));
+                            AssertJUnit.assertEquals(true, event.getData(2));
+                            AssertJUnit.assertEquals(true, event.getData(3));
+                            break;
+                    }
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT});
+        inputHandler.send(new Object[]{"{name:\"Peter\", age:30, citizen:true, married:true}"});
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testGetIntFromJSONWithMissingPathsIgnored() throws InterruptedException {
+        log.info("GetIntJSONFunctionTestCase - testGetIntFromJSONWithMissingPathsIgnored");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("json.getInt.missing.path.mode", "ignore");
+        configs.put("json.isExists.missing.path.mode", "ignore");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configs, null));
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:getInt(json, '$.age') as age, json:getInt(json, '$.address.zip') as zip, " +
+                "json:getInt(json, '$.scores[-1]') as lastScore, json:isExists(json, '$.scores[-1]') as hasScore, " +
+                "json:getInt(json, '$..zip') as anyZip\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    switch (count.get()) {
+                        case 1:
+                            AssertJUnit.assertEquals(25, event.getData(0));
+                            AssertJUnit.assertNull(event.getData(1));
+                            AssertJUnit.assertNull(event.getData(2));
+                            AssertJUnit.assertEquals(false, event.getData(3));
+                            AssertJUnit.assertNull(event.getData(4));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(30, event.getData(0));
+                            AssertJUnit.assertEquals(10115, event.getData(1));
+                            AssertJUnit.assertEquals(7, event.getData(2));
+                            AssertJUnit.assertEquals(true, event.getData(3));
+                            AssertJUnit.assertEquals(10115, event.getData(4));
+                            break;
+                        case 3:
+                            AssertJUnit.assertNull(event.getData(2));
+                            AssertJUnit.assertEquals(true, event.getData(3));
+                            break;
+                    }
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT});
+        inputHandler.send(new Object[]{"{name:\"Peter\", age:30, address:{zip:10115}, scores:[3, 7]}"});
+        inputHandler.send(new Object[]{"{name:\"Anna\", scores:[3, null]}"});
+        AssertJUnit.assertEquals(3, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testGetIntFromJSONWithConfiguredEngine() throws InterruptedException {
+        log.info("GetIntJSONFunctionTestCase - testGetIntFromJSONWithConfiguredEngine");
+        for (String engine : new String[]{"json-smart", "gson", "jackson"}) {
+            count.set(0);
+            Map<String, String> configs = new HashMap<>();
+            configs.put("json.getInt.engine", engine);
+            configs.put("json.getString.engine", engine);
+            SiddhiManager siddhiManager = new SiddhiManager();
+            siddhiManager.setConfigManager(new InMemoryConfigManager(configs, null));
+            String stream = "define stream InputStream(json string);\n";
+            String query = ("@info(name = 'query1')\n" +
+                    "from InputStream\n" +
+                    "select json:getInt(json, '$.age') as age, json:getInt(json, '$.address.zip') as zip, " +
+                    "json:getString(json, '$.address') as address\n" +
+                    "insert into OutputStream;");
+            SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+            siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+                @Override
+                public void receive(long timeStamp, Event[] inEvents,
+                                    Event[] removeEvents) {
+                    EventPrinter.print(timeStamp, inEvents, removeEvents);
+                    for (Event event : inEvents) {
+                        count.incrementAndGet();
+                        AssertJUnit.assertEquals(30, event.getData(0));
+                        AssertJUnit.assertEquals(10115, event.getData(1));
+                        AssertJUnit.assertEquals("{\"zip\":10115}", event.getData(2));
+                    }
+                }
+            });
+            InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+            siddhiAppRuntime.start();
+            inputHandler.send(new Object[]{"{\"name\":\"Peter\",\"age\":30,\"address\":{\"zip\":10115}}"});
+            AssertJUnit.assertEquals(1, count.get());
+            siddhiAppRuntime.shutdown();
+        }
+    }
 }
@@ -24,6 +24,7 @@ import io.siddhi.core.event.Event;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.config.InMemoryConfigManager;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
@@ -33,6 +34,9 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class GetObjectJSONFunctionTestCase {
@@ -132,4 +136,81 @@ public class GetObjectJSONFunctionTestCase {
         inputHandler.send(new Object[]{jsonObject, "$.married"});
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testModifyingResultDoesNotAffectLaterReads() throws InterruptedException {
+        log.info("GetObjectJSONFunctionTestCase - testModifyingResultDoesNotAffectLaterReads");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("json.getObject.streaming.evaluation", "false");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configs, null));
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:getObject(json, '$.address') as address, " +
+                "json:getObject(json, '$.address.city') as city\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    Map address = (Map) event.getData(0);
+                    AssertJUnit.assertEquals("NY", address.get("city"));
+                    AssertJUnit.assertEquals("NY", event.getData(1));
+                    address.put("city", "SF");
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        String json = "{\"name\":\"John\", \"address\":{\"city\":\"NY\"}}";
+        inputHandler.send(new Object[]{json});
+        inputHandler.send(new Object[]{json});
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testGetObjectFromObjectInput() throws InterruptedException, ParseException {
+        log.info("GetObjectJSONFunctionTestCase - testGetObjectFromObjectInput");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json object);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:getObject(json, '$.address') as address, json:getObject(json, '$.tags') as tags, " +
+                "json:getObject(json, '$.tags[1]') as tag\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject jsonObject = (JSONObject) jsonParser.parse("{name:\"John\", address:{city:\"NY\"}, " +
+                "tags:[\"a\", \"b\"]}");
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(jsonObject.get("address"), event.getData(0));
+                    AssertJUnit.assertNotSame(jsonObject.get("address"), event.getData(0));
+                    AssertJUnit.assertEquals(jsonObject.get("tags"), event.getData(1));
+                    AssertJUnit.assertNotSame(jsonObject.get("tags"), event.getData(1));
+                    AssertJUnit.assertEquals("b", event.getData(2));
+                    ((Map) event.getData(0)).put("city", "SF");
+                    ((List) event.getData(1)).clear();
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{jsonObject});
+        AssertJUnit.assertEquals(1, count.get());
+        AssertJUnit.assertEquals("NY", ((Map) jsonObject.get("address")).get("city"));
+        AssertJUnit.assertEquals(2, ((List) jsonObject.get("tags")).size());
+        siddhiAppRuntime.shutdown();
+    }
 }
@@ -21,6 +21,7 @@ package io.siddhi.extension.execution.json;
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
@@ -33,6 +34,8 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class GetStringJSONFunctionTestCase {
@@ -143,4 +146,89 @@ public class GetStringJSONFunctionTestCase {
         inputHandler.send(new Object[]{jsonObject, "$.married"});
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testGetStringFromJSONWithConstantPath() throws InterruptedException {
+        log.info("GetStringJSONFunctionTestCase - testGetStringFromJSONWithConstantPath");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:getString(json, '$.name') as name, " +
+                "json:getString(json, '$.bar[1].barName') as barName\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    switch (count.get()) {
+                        case 1:
+                            AssertJUnit.assertEquals("John", event.getData(0));
+                            AssertJUnit.assertEquals("barName2", event.getData(1));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals("Peter", event.getData(0));
+                            AssertJUnit.assertEquals(null, event.getData(1));
+                            break;
+                    }
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT});
+        inputHandler.send(new Object[]{"{name:\"Peter\"}"});
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testGetStringFromJSONWithInvalidConstantPath() {
+        log.info("GetStringJSONFunctionTestCase - testGetStringFromJSONWithInvalidConstantPath");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:getString(json, '$.bar[') as name\n" +
+                "insert into OutputStream;");
+        siddhiManager.createSiddhiAppRuntime(stream + query);
+    }
+
+    @Test
+    public void testGetStringFromBinaryJSON() throws InterruptedException {
+        log.info("GetStringJSONFunctionTestCase - testGetStringFromBinaryJSON");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json object);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:getString(json, '$.name') as name, json:getInt(json, '$.age') as age, " +
+                "json:isExists(json, '$.bar[1]') as hasBar, json:getString(json, '$.bar[0]') as bar\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals("J\u00f6hn", event.getData(0));
+                    AssertJUnit.assertEquals(25, event.getData(1));
+                    AssertJUnit.assertEquals(true, event.getData(2));
+                    AssertJUnit.assertEquals("{\"barName\":\"barName\"}", event.getData(3));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        byte[] bytes = JSON_INPUT.replace("John", "J\u00f6hn").getBytes(StandardCharsets.UTF_8);
+        inputHandler.send(new Object[]{bytes});
+        inputHandler.send(new Object[]{ByteBuffer.wrap(bytes)});
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
 }
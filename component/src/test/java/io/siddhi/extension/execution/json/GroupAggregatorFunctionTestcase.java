@@ -21,10 +21,13 @@ package io.siddhi.extension.execution.json;
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.CannotRestoreSiddhiAppStateException;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
 import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.core.util.persistence.InMemoryPersistenceStore;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import org.apache.logging.log4j.LogManager;
@@ -33,6 +36,11 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class GroupAggregatorFunctionTestcase {
@@ -491,4 +499,137 @@ public class GroupAggregatorFunctionTestcase {
         AssertJUnit.assertTrue(eventArrived);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test(dependsOnMethods = {"testAggregateFunctionExtension6"})
+    public void testAggregateFunctionExtension7() throws InterruptedException {
+        LOGGER.info("TestAggregateFunctionExtension7 TestCase - Sliding window with repeated elements");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (json string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream#window.length(2) " +
+                "select json:group(json) as concatJSON, json:group(json, 'result', true) as distinctJSON " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+        String[] expectedArrays = new String[]{"[{\"id\":1}]", "[{\"id\":1},{\"id\":1}]",
+                "[{\"id\":1},{\"id\":2}]", "[{\"id\":2},{\"id\":1}]"};
+        String[] expectedDistinctObjects = new String[]{"{\"result\":[{\"id\":1}]}", "{\"result\":[{\"id\":1}]}",
+                "{\"result\":[{\"id\":1},{\"id\":2}]}", "{\"result\":[{\"id\":2},{\"id\":1}]}"};
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    int index = count.getAndIncrement();
+                    AssertJUnit.assertEquals(expectedArrays[index], event.getData(0));
+                    AssertJUnit.assertEquals(expectedDistinctObjects[index], event.getData(1));
+                    eventArrived = true;
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"{\"id\":1}"});
+        inputHandler.send(new Object[]{"{\"id\":1}"});
+        inputHandler.send(new Object[]{"{\"id\":2}"});
+        inputHandler.send(new Object[]{"{\"id\":1}"});
+        SiddhiTestHelper.waitForEvents(100, 4, count, 60000);
+        AssertJUnit.assertEquals(4, count.get());
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = {"testAggregateFunctionExtension7"})
+    public void testAggregateFunctionExtension8() throws InterruptedException, CannotRestoreSiddhiAppStateException {
+        LOGGER.info("TestAggregateFunctionExtension8 TestCase - Persisting and restoring the state");
+        for (String compression : new String[]{"false", "true"}) {
+            Map<String, String> configs = new HashMap<>();
+            configs.put("json.group.snapshot.compression", compression);
+            SiddhiManager siddhiManager = new SiddhiManager();
+            siddhiManager.setConfigManager(new InMemoryConfigManager(configs, null));
+            siddhiManager.setPersistenceStore(new InMemoryPersistenceStore());
+
+            String siddhiApp = "@app:name('GroupPersistenceTest') " +
+                    "define stream inputStream (json string);" +
+                    "@info(name = 'query1') " +
+                    "from inputStream " +
+                    "select json:group(json) as concatJSON " +
+                    "insert into outputStream;";
+            List<Object> results = new ArrayList<>();
+            QueryCallback callback = new QueryCallback() {
+                @Override
+                public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                    EventPrinter.print(timeStamp, inEvents, removeEvents);
+                    for (Event event : inEvents) {
+                        results.add(event.getData(0));
+                    }
+                }
+            };
+            SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+            siddhiAppRuntime.addCallback("query1", callback);
+            siddhiAppRuntime.start();
+            siddhiAppRuntime.getInputHandler("inputStream").send(new Object[]{"{\"id\":1,\"tags\":[\"a\"]}"});
+            siddhiAppRuntime.getInputHandler("inputStream").send(new Object[]{"{\"id\":1,\"tags\":[\"a\"]}"});
+            siddhiAppRuntime.getInputHandler("inputStream").send(new Object[]{"{\"name\":\"\u00e9t\u00e9\"}"});
+            siddhiAppRuntime.persist();
+            Thread.sleep(100);
+            siddhiAppRuntime.shutdown();
+
+            siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+            siddhiAppRuntime.addCallback("query1", callback);
+            siddhiAppRuntime.start();
+            siddhiAppRuntime.restoreLastRevision();
+            siddhiAppRuntime.getInputHandler("inputStream").send(new Object[]{"{\"id\":2}"});
+            AssertJUnit.assertEquals(4, results.size());
+            AssertJUnit.assertEquals("[{\"id\":1,\"tags\":[\"a\"]},{\"id\":1,\"tags\":[\"a\"]}," +
+                    "{\"name\":\"\u00e9t\u00e9\"},{\"id\":2}]", results.get(3));
+            siddhiAppRuntime.shutdown();
+        }
+    }
+
+    @Test(dependsOnMethods = {"testAggregateFunctionExtension8"})
+    public void testAggregateFunctionExtension9() throws InterruptedException {
+        LOGGER.info("TestAggregateFunctionExtension9 TestCase - JSON as UTF-8 encoded bytes");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (json string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select json:groupAsBytes(json) as groupedJSON, " +
+                "json:groupAsBytes(json, 'result', true) as enclosedJSON " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+
+        List<byte[]> groupedResults = new ArrayList<>();
+        List<byte[]> enclosedResults = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    groupedResults.add((byte[]) event.getData(0));
+                    enclosedResults.add((byte[]) event.getData(1));
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"{\"name\":\"\u00e9t\u00e9\"}"});
+        inputHandler.send(new Object[]{"{\"name\":\"\u00e9t\u00e9\"}"});
+        inputHandler.send(new Object[]{"{\"id\":2}"});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(3, count.get());
+        AssertJUnit.assertEquals("[{\"name\":\"\u00e9t\u00e9\"},{\"name\":\"\u00e9t\u00e9\"}]",
+                new String(groupedResults.get(1), StandardCharsets.UTF_8));
+        AssertJUnit.assertEquals("[{\"name\":\"\u00e9t\u00e9\"},{\"name\":\"\u00e9t\u00e9\"},{\"id\":2}]",
+                new String(groupedResults.get(2), StandardCharsets.UTF_8));
+        AssertJUnit.assertEquals("{\"result\":[{\"name\":\"\u00e9t\u00e9\"},{\"id\":2}]}",
+                new String(enclosedResults.get(2), StandardCharsets.UTF_8));
+        AssertJUnit.assertNotSame(groupedResults.get(0), groupedResults.get(1));
+        siddhiAppRuntime.shutdown();
+    }
 }
@@ -542,4 +542,95 @@ public class GroupAsObjectAggregatorFunctionTestcase {
         AssertJUnit.assertTrue(eventArrived);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test(dependsOnMethods = {"testAggregateFunctionExtension7"})
+    public void testAggregateFunctionExtension8() throws InterruptedException {
+        LOGGER.info("TestAggregateFunctionExtension8 TestCase - with group by keeping separate state per key.");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (key string, json string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select key, json:groupAsObject(json) as groupedJSON " +
+                "group by key " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+        String[] expectedArrays = new String[]{"[{\"id\":1}]", "[{\"id\":2}]", "[{\"id\":1},{\"id\":3}]"};
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    int index = count.getAndIncrement();
+                    AssertJUnit.assertEquals(expectedArrays[index], ((JSONArray) event.getData(1)).toJSONString());
+                    eventArrived = true;
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"a", "{\"id\":1}"});
+        inputHandler.send(new Object[]{"b", "{\"id\":2}"});
+        inputHandler.send(new Object[]{"a", "{\"id\":3}"});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(3, count.get());
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = {"testAggregateFunctionExtension8"})
+    public void testAggregateFunctionExtension9() throws InterruptedException {
+        LOGGER.info("TestAggregateFunctionExtension9 TestCase - the output cannot be modified.");
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String inStreamDefinition = "define stream inputStream (json string);";
+        String query = ("@info(name = 'query1') " +
+                "from inputStream " +
+                "select json:groupAsObject(json) as groupedJSON, json:groupAsObject(json, true) as distinctJSON " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+        String[] expectedArrays = new String[]{"[{\"id\":1}]", "[{\"id\":1},{\"id\":1}]",
+                "[{\"id\":1},{\"id\":1},{\"id\":2}]"};
+        String[] expectedDistinctArrays = new String[]{"[{\"id\":1}]", "[{\"id\":1}]", "[{\"id\":1},{\"id\":2}]"};
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    int index = count.getAndIncrement();
+                    JSONArray groupedJSON = (JSONArray) event.getData(0);
+                    JSONArray distinctJSON = (JSONArray) event.getData(1);
+                    AssertJUnit.assertEquals(expectedArrays[index], groupedJSON.toJSONString());
+                    AssertJUnit.assertEquals(expectedDistinctArrays[index], distinctJSON.toJSONString());
+                    AssertJUnit.assertTrue(groupedJSON.get(0) instanceof JSONObject);
+                    AssertJUnit.assertTrue(isReadOnly(() -> ((JSONObject) groupedJSON.get(0)).put("id", 10)));
+                    AssertJUnit.assertTrue(isReadOnly(() -> groupedJSON.add("extra")));
+                    AssertJUnit.assertTrue(isReadOnly(distinctJSON::clear));
+                    eventArrived = true;
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"{\"id\":1}"});
+        inputHandler.send(new Object[]{"{\"id\":1}"});
+        inputHandler.send(new Object[]{"{\"id\":2}"});
+        SiddhiTestHelper.waitForEvents(100, 3, count, 60000);
+        AssertJUnit.assertEquals(3, count.get());
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    private static boolean isReadOnly(Runnable modification) {
+        try {
+            modification.run();
+            return false;
+        } catch (UnsupportedOperationException e) {
+            return true;
+        }
+    }
 }
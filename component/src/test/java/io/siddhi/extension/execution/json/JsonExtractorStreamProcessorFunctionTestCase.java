@@ -0,0 +1,207 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JsonExtractorStreamProcessorFunctionTestCase {
+    private static final Logger log = LogManager.getLogger(JsonExtractorStreamProcessorFunctionTestCase.class);
+    private static final String JSON_INPUT = "{id:'A12', qty:3, price:10.5, available:true, " +
+            "customer:{name:'John', tier:'gold'}, items:[{sku:'pen'},{sku:'book'}]}";
+    private AtomicInteger count = new AtomicInteger(0);
+
+    @BeforeMethod
+    public void init() {
+        count.set(0);
+    }
+
+    @Test
+    public void testExtractMultiplePaths() throws InterruptedException {
+        log.info("JsonExtractorStreamProcessorFunction - testExtractMultiplePaths");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:extract(json, '$.id', 'string', '$.qty', 'int', '$.price', 'double', " +
+                "'$.available', 'bool', '$.customer.name', 'string', '$.items[1].sku', 'string', " +
+                "'$.customer', 'object', '$.missing', 'long')\n" +
+                "select id, qty, price, available, customer_name, items_1_sku, customer, missing\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals("A12", event.getData(0));
+                    AssertJUnit.assertEquals(3, event.getData(1));
+                    AssertJUnit.assertEquals(10.5, event.getData(2));
+                    AssertJUnit.assertEquals(true, event.getData(3));
+                    AssertJUnit.assertEquals("John", event.getData(4));
+                    AssertJUnit.assertEquals("book", event.getData(5));
+                    AssertJUnit.assertEquals("gold", ((Map) event.getData(6)).get("tier"));
+                    AssertJUnit.assertNull(event.getData(7));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT});
+        inputHandler.send(new Object[]{JSON_INPUT});
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testExtractFailsOnInvalidJson() throws InterruptedException {
+        log.info("JsonExtractorStreamProcessorFunction - testExtractFailsOnInvalidJson");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "@OnError(action = 'STREAM')\n" +
+                "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:extract(json, '$.id', 'string')\n" +
+                "select id\n" +
+                "insert into OutputStream;\n" +
+                "@info(name = 'query2')\n" +
+                "from !InputStream\n" +
+                "select json, _error\n" +
+                "insert into FaultStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals("A12", event.getData(0));
+                }
+            }
+        });
+        List<Object> faults = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    faults.add(event.getData(0));
+                    AssertJUnit.assertTrue(event.getData(1) instanceof Throwable);
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"{id:'A12'"});
+        inputHandler.send(new Object[]{JSON_INPUT});
+        AssertJUnit.assertEquals(1, count.get());
+        AssertJUnit.assertEquals(Collections.singletonList("{id:'A12'"), faults);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testExtractUnconvertibleValues() throws InterruptedException {
+        log.info("JsonExtractorStreamProcessorFunction - testExtractUnconvertibleValues");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:extract(json, '$.customer.name', 'int', '$.items[*].sku', 'long', " +
+                "'$.items[0].sku', 'string')\n" +
+                "select customer_name, items_sku, items_0_sku\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertNull(event.getData(0));
+                    AssertJUnit.assertNull(event.getData(1));
+                    AssertJUnit.assertEquals("pen", event.getData(2));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT});
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testExtractFromStringValueDocument() throws InterruptedException {
+        log.info("JsonExtractorStreamProcessorFunction - testExtractFromStringValueDocument");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:extract(json, '$.id', 'string')\n" +
+                "select id\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertNull(event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"\"{\\\"id\\\":\\\"A1\\\"}\""});
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testExtractWithInvalidType() {
+        log.info("JsonExtractorStreamProcessorFunction - testExtractWithInvalidType");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:extract(json, '$.id', 'char')\n" +
+                "select id\n" +
+                "insert into OutputStream;");
+        siddhiManager.createSiddhiAppRuntime(stream + query);
+    }
+}
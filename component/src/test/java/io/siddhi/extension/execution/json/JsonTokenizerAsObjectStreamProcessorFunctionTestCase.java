@@ -34,6 +34,10 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class JsonTokenizerAsObjectStreamProcessorFunctionTestCase {
@@ -315,6 +319,73 @@ public class JsonTokenizerAsObjectStreamProcessorFunctionTestCase {
         AssertJUnit.assertEquals(4, count.get());
         siddhiAppRuntime.shutdown();
     }
-}
 
+    @Test
+    public void testJsonTokenizerWithLimitAndIndex() throws InterruptedException {
+        log.info("JsonTokenizerAsObjectStreamProcessorFunction - testJsonTokenizerWithLimitAndIndex");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string, path string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:tokenizeAsObject(json, path, true, 1, 0, true)\n" +
+                "select index, json:getString(jsonElement, '$.name') as name\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        List<Object> elements = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    elements.add(event.getData(0));
+                    elements.add(event.getData(1));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT, "$.emp"});
+        inputHandler.send(new Object[]{JSON_INPUT, "$.emp[1]"});
+        AssertJUnit.assertEquals(Arrays.asList(0, "John", null, "Peter"), elements);
+        siddhiAppRuntime.shutdown();
+    }
 
+    @Test
+    public void testJsonTokenizerWithObjectInput() throws InterruptedException, ParseException {
+        log.info("JsonTokenizerAsObjectStreamProcessorFunction - testJsonTokenizerWithObjectInput");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json object, path string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:tokenizeAsObject(json, path)\n" +
+                "select jsonElement\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject jsonObject = (JSONObject) jsonParser.parse(JSON_INPUT);
+        List<Object> elements = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    elements.add(event.getData(0));
+                    ((Map) event.getData(0)).remove("name");
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{jsonObject, "$.emp"});
+        inputHandler.send(new Object[]{jsonObject, "$.emp[1].foo"});
+        List employees = (List) jsonObject.get("emp");
+        AssertJUnit.assertEquals(3, elements.size());
+        AssertJUnit.assertNotSame(employees.get(0), elements.get(0));
+        AssertJUnit.assertNotSame(employees.get(1), elements.get(1));
+        AssertJUnit.assertEquals("John", ((Map) employees.get(0)).get("name"));
+        AssertJUnit.assertEquals("Peter", ((Map) employees.get(1)).get("name"));
+        AssertJUnit.assertEquals(((Map) employees.get(1)).get("foo"), elements.get(2));
+        AssertJUnit.assertNotSame(((Map) employees.get(1)).get("foo"), elements.get(2));
+        siddhiAppRuntime.shutdown();
+    }
+}
@@ -21,9 +21,11 @@ package io.siddhi.extension.execution.json;
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.config.InMemoryConfigManager;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
@@ -34,6 +36,11 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class JsonTokenizerStreamProcessorFunctionTestCase {
@@ -253,6 +260,216 @@ public class JsonTokenizerStreamProcessorFunctionTestCase {
         siddhiAppRuntime.shutdown();
     }
 
-}
 
+    @Test
+    public void testJsonTokenizerWithStreamingSplit() throws InterruptedException {
+        log.info("JsonTokenizerStreamProcessorFunction - testJsonTokenizerWithStreamingSplit");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("json.tokenize.streaming.split", "true");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configs, null));
+        String stream = "define stream InputStream(json string,path string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:tokenize(json, path, false)\n" +
+                "select jsonElement\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        List<Object> elements = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    elements.add(event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        String json = "{\"items\": [{\"id\": 1, \"tags\": [\"a\", \"b\"]}, \"text, with comma\", 3.5, null], " +
+                "\"empty\": []}";
+        inputHandler.send(new Object[]{json, "$.items"});
+        inputHandler.send(new Object[]{json, "$.empty"});
+        inputHandler.send(new Object[]{json, "$.missing"});
+        inputHandler.send(new Object[]{json, "$.items[0].tags"});
+        AssertJUnit.assertEquals(Arrays.asList("{\"id\": 1, \"tags\": [\"a\", \"b\"]}", "\"text, with comma\"",
+                "3.5", "null", null, null, "\"a\"", "\"b\""), elements);
+        siddhiAppRuntime.shutdown();
+    }
 
+    @Test
+    public void testJsonTokenizerWithBoundedEmitChunkSize() throws InterruptedException {
+        log.info("JsonTokenizerStreamProcessorFunction - testJsonTokenizerWithBoundedEmitChunkSize");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("json.tokenize.emit.chunk.size", "2");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configs, null));
+        String stream = "define stream InputStream(json string,path string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:tokenize(json, path)\n" +
+                "select jsonElement\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        List<Integer> chunkSizes = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                chunkSizes.add(inEvents.length);
+                count.addAndGet(inEvents.length);
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"{items:[1, 2, 3, 4, 5]}", "$.items"});
+        inputHandler.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{JSON_INPUT, "$.emp[0].name"}),
+                new Event(System.currentTimeMillis(), new Object[]{JSON_INPUT, "$.emp[1].name"}),
+                new Event(System.currentTimeMillis(), new Object[]{JSON_INPUT, "$.emp[0].foo"})
+        });
+        AssertJUnit.assertEquals(8, count.get());
+        AssertJUnit.assertEquals(Arrays.asList(2, 2, 1, 2, 1), chunkSizes);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testJsonTokenizerWithStatisticsEnabled() throws InterruptedException {
+        log.info("JsonTokenizerStreamProcessorFunction - testJsonTokenizerWithStatisticsEnabled");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("json.tokenize.emit.chunk.size", "2");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configs, null));
+        String stream = "@app:statistics(reporter = 'console', interval = '3600')\n" +
+                "define stream InputStream(json string,path string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:tokenize(json, path)\n" +
+                "select jsonElement\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        List<Object> elements = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    elements.add(event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"{items:[1, 2, 3, 4, 5]}", "$.items"});
+        inputHandler.send(new Object[]{JSON_INPUT, "$.emp[0].name"});
+        AssertJUnit.assertEquals(Arrays.asList("1", "2", "3", "4", "5", "John"), elements);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testJsonTokenizerWithLimitAndOffset() throws InterruptedException {
+        log.info("JsonTokenizerStreamProcessorFunction - testJsonTokenizerWithLimitAndOffset");
+        for (String streamingSplit : new String[]{"false", "true"}) {
+            Map<String, String> configs = new HashMap<>();
+            configs.put("json.tokenize.streaming.split", streamingSplit);
+            SiddhiManager siddhiManager = new SiddhiManager();
+            siddhiManager.setConfigManager(new InMemoryConfigManager(configs, null));
+            String stream = "define stream InputStream(json string);\n";
+            String query = ("@info(name = 'query1')\n" +
+                    "from InputStream#json:tokenize(json, '$.items', true, 2, 1, true)\n" +
+                    "select index, jsonElement\n" +
+                    "insert into OutputStream;");
+            SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+            List<Object> elements = new ArrayList<>();
+            siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+                @Override
+                public void receive(long timeStamp, Event[] inEvents,
+                                    Event[] removeEvents) {
+                    EventPrinter.print(timeStamp, inEvents, removeEvents);
+                    for (Event event : inEvents) {
+                        elements.add(event.getData(0));
+                        elements.add(event.getData(1));
+                    }
+                }
+            });
+            InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+            siddhiAppRuntime.start();
+            inputHandler.send(new Object[]{"{\"items\":[\"a\",\"b\",\"c\",\"d\"]}"});
+            inputHandler.send(new Object[]{"{\"items\":[\"a\",\"b\"]}"});
+            inputHandler.send(new Object[]{"{\"items\":[\"a\"]}"});
+            AssertJUnit.assertEquals(Arrays.asList(1, "\"b\"", 2, "\"c\"", 1, "\"b\""), elements);
+            siddhiAppRuntime.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testJsonTokenizerWithInvalidLimit() {
+        log.info("JsonTokenizerStreamProcessorFunction - testJsonTokenizerWithInvalidLimit");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:tokenize(json, '$.items', true, 0)\n" +
+                "select jsonElement\n" +
+                "insert into OutputStream;");
+        siddhiManager.createSiddhiAppRuntime(stream + query);
+    }
+
+    @Test
+    public void testJsonTokenizerIndexIsOptIn() throws InterruptedException {
+        log.info("JsonTokenizerStreamProcessorFunction - testJsonTokenizerIndexIsOptIn");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:tokenize(json, '$.items')\n" +
+                "select *\n" +
+                "insert into OutputStream;\n" +
+                "@info(name = 'query2')\n" +
+                "from InputStream#json:tokenize(json, '$.items', true, true)\n" +
+                "select *\n" +
+                "insert into IndexedOutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        List<Object> elements = new ArrayList<>();
+        List<Object> indexedElements = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    elements.addAll(Arrays.asList(event.getData()));
+                }
+            }
+        });
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    indexedElements.addAll(Arrays.asList(event.getData()));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        String json = "{\"items\":[\"a\",\"b\"]}";
+        inputHandler.send(new Object[]{json});
+        AssertJUnit.assertEquals(Arrays.asList(json, "\"a\"", json, "\"b\""), elements);
+        AssertJUnit.assertEquals(Arrays.asList(json, "\"a\"", 0, json, "\"b\"", 1), indexedElements);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testJsonTokenizerIndexWithoutIncludeIndex() {
+        log.info("JsonTokenizerStreamProcessorFunction - testJsonTokenizerIndexWithoutIncludeIndex");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:tokenize(json, '$.items', true, 2)\n" +
+                "select index, jsonElement\n" +
+                "insert into OutputStream;");
+        siddhiManager.createSiddhiAppRuntime(stream + query);
+    }
+}
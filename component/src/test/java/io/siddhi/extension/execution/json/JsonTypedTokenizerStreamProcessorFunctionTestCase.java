@@ -0,0 +1,118 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class JsonTypedTokenizerStreamProcessorFunctionTestCase {
+    private static final Logger log = LogManager.getLogger(JsonTypedTokenizerStreamProcessorFunctionTestCase.class);
+    private static final String JSON_INPUT = "{name:\"sensor-1\", ints:[12, 15, \"11\", \"x\"], " +
+            "longs:[1602746400000, 1602746460000], doubles:[12.5, 15], states:[true, \"false\", 1], " +
+            "labels:[\"a\", {\"b\":1}], reading:7}";
+
+    private List<Object> tokenize(String function, String path, String arguments) throws InterruptedException {
+        String includeIndex = arguments.isEmpty() ? ", true, true" : arguments + ", true";
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string, path string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream#json:" + function + "(json, path" + includeIndex + ")\n" +
+                "select jsonElement, index\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        List<Object> elements = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    elements.add(event.getData(0));
+                    elements.add(event.getData(1));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT, path});
+        siddhiAppRuntime.shutdown();
+        return elements;
+    }
+
+    @Test
+    public void testTokenizeAsInt() throws InterruptedException {
+        log.info("JsonTypedTokenizerStreamProcessorFunctionTestCase - testTokenizeAsInt");
+        AssertJUnit.assertEquals(Arrays.asList(12, 0, 15, 1, 11, 2, null, 3),
+                tokenize("tokenizeAsInt", "$.ints", ""));
+        AssertJUnit.assertEquals(Arrays.asList(7, null), tokenize("tokenizeAsInt", "$.reading", ""));
+        AssertJUnit.assertEquals(Arrays.asList(15, 1, 11, 2), tokenize("tokenizeAsInt", "$.ints", ", true, 2, 1"));
+    }
+
+    @Test
+    public void testTokenizeAsLong() throws InterruptedException {
+        log.info("JsonTypedTokenizerStreamProcessorFunctionTestCase - testTokenizeAsLong");
+        AssertJUnit.assertEquals(Arrays.asList(1602746400000L, 0, 1602746460000L, 1),
+                tokenize("tokenizeAsLong", "$.longs", ""));
+    }
+
+    @Test
+    public void testTokenizeAsDouble() throws InterruptedException {
+        log.info("JsonTypedTokenizerStreamProcessorFunctionTestCase - testTokenizeAsDouble");
+        AssertJUnit.assertEquals(Arrays.asList(12.5, 0, 15.0, 1), tokenize("tokenizeAsDouble", "$.doubles", ""));
+    }
+
+    @Test
+    public void testTokenizeAsBool() throws InterruptedException {
+        log.info("JsonTypedTokenizerStreamProcessorFunctionTestCase - testTokenizeAsBool");
+        AssertJUnit.assertEquals(Arrays.asList(true, 0, false, 1, null, 2), tokenize("tokenizeAsBool", "$.states", ""));
+    }
+
+    @Test
+    public void testTokenizeAsString() throws InterruptedException {
+        log.info("JsonTypedTokenizerStreamProcessorFunctionTestCase - testTokenizeAsString");
+        AssertJUnit.assertEquals(Arrays.asList("a", 0, "{\"b\":1}", 1), tokenize("tokenizeAsString", "$.labels", ""));
+    }
+
+    @Test
+    public void testTokenizeAsIntWithMissingPath() throws InterruptedException {
+        log.info("JsonTypedTokenizerStreamProcessorFunctionTestCase - testTokenizeAsIntWithMissingPath");
+        AssertJUnit.assertEquals(0, tokenize("tokenizeAsInt", "$.xyz", "").size());
+        AssertJUnit.assertEquals(Arrays.asList(null, null), tokenize("tokenizeAsInt", "$.xyz", ", false"));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testTokenizeAsIntWithInvalidOffset() throws InterruptedException {
+        log.info("JsonTypedTokenizerStreamProcessorFunctionTestCase - testTokenizeAsIntWithInvalidOffset");
+        tokenize("tokenizeAsInt", "$.ints", ", true, 2, -1");
+    }
+}
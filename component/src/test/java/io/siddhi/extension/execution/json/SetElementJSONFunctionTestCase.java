@@ -33,6 +33,7 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class SetElementJSONFunctionTestCase {
@@ -484,4 +485,117 @@ public class SetElementJSONFunctionTestCase {
         AssertJUnit.assertEquals(1, count.get());
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testSetElementWithPlainAndJSONStringsInArray() throws InterruptedException, ParseException {
+        log.info("SetElementJSONFunctionTestCase - testSetElementWithPlainAndJSONStringsInArray");
+        String expectedJson1 = "{\"name\":\"John\",\"married\":true,\"citizen\":false," +
+                "\"subjects\":[\"Mathematics\",\"Applied Mathematics\"]}";
+        String expectedJson2 = "{\"name\":\"John\",\"married\":true,\"citizen\":false," +
+                "\"subjects\":[\"Mathematics\",[\"Physics\",\"Chemistry\"]]}";
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string, jsonElement string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:setElement(json, '$.subjects', jsonElement) as subjects\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject expectedJsonObject1 = (JSONObject) jsonParser.parse(expectedJson1);
+        JSONObject expectedJsonObject2 = (JSONObject) jsonParser.parse(expectedJson2);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    switch (count.get()) {
+                        case 1:
+                            AssertJUnit.assertEquals(expectedJsonObject1, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(expectedJsonObject2, event.getData(0));
+                            break;
+                    }
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT, "Applied Mathematics"});
+        inputHandler.send(new Object[]{JSON_INPUT, " [\"Physics\", \"Chemistry\"]"});
+        AssertJUnit.assertEquals(2, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testSetElementAsBytes() throws InterruptedException, ParseException {
+        log.info("SetElementJSONFunctionTestCase - testSetElementAsBytes");
+        String expectedJson = "{\"name\":\"John\",\"married\":true,\"citizen\":false," +
+                "\"subjects\":[\"Mathematics\",\"Applied Mathematics\"]}";
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string, jsonElement string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:setElementAsBytes(json, '$.subjects', jsonElement) as subjects\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject expectedJsonObject = (JSONObject) jsonParser.parse(expectedJson);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    try {
+                        AssertJUnit.assertEquals(expectedJsonObject, jsonParser.parse(
+                                new String((byte[]) event.getData(0), StandardCharsets.UTF_8)));
+                    } catch (ParseException e) {
+                        AssertJUnit.fail("Returned bytes are not a valid JSON: " + e.getMessage());
+                    }
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT, "Applied Mathematics"});
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testSetElementLeavesObjectInputUntouched() throws InterruptedException, ParseException {
+        log.info("SetElementJSONFunctionTestCase - testSetElementLeavesObjectInputUntouched");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json object);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:setElement(json, '$.subjects', 'Physics') as json\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject jsonObject = (JSONObject) jsonParser.parse(JSON_INPUT);
+        JSONObject expectedJsonObject = (JSONObject) jsonParser.parse("{name:\"John\", married:true, " +
+                "citizen:false, subjects:[\"Mathematics\", \"Physics\"]}");
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(expectedJsonObject, event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{jsonObject});
+        AssertJUnit.assertEquals(1, count.get());
+        AssertJUnit.assertEquals(jsonParser.parse(JSON_INPUT), jsonObject);
+        siddhiAppRuntime.shutdown();
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SetElementsJSONFunctionTestCase {
+    private static final Logger log = LogManager.getLogger(SetElementsJSONFunctionTestCase.class);
+    private static final String JSON_INPUT = "{name:\"John\", married:true, subjects:[\"Mathematics\"]}";
+    private AtomicInteger count = new AtomicInteger(0);
+
+    @BeforeMethod
+    public void init() {
+        count.set(0);
+    }
+
+    @Test
+    public void testSetElements() throws InterruptedException, ParseException {
+        log.info("SetElementsJSONFunctionTestCase - testSetElements");
+        String expectedJson = "{\"name\":\"John Doe\",\"married\":true,\"subjects\":[\"Mathematics\"," +
+                "\"Physics\"],\"address\":{\"city\":\"SF\",\"country\":\"USA\"},\"age\":40}";
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string, age int);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:setElements(json, '$.name', 'John Doe', '', " +
+                "'$.subjects', 'Physics', '', " +
+                "'$', \"{'city' : 'SF'}\", 'address', " +
+                "'$.address', 'USA', 'country', " +
+                "'$', age, 'age') as json\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject expectedJsonObject = (JSONObject) jsonParser.parse(expectedJson);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(expectedJsonObject, event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT, 40});
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testSetElementsWithMissingIntermediatePath() throws InterruptedException, ParseException {
+        log.info("SetElementsJSONFunctionTestCase - testSetElementsWithMissingIntermediatePath");
+        String expectedJson = "{\"name\":\"John\",\"married\":false,\"subjects\":[\"Mathematics\",\"Physics\"]}";
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:setElements(json, '$.married', false, '', '$.address.city', 'SF', 'zip', " +
+                "'$.address.city', 'SF', '', '$.subjects', 'Physics', '') as json\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject expectedJsonObject = (JSONObject) jsonParser.parse(expectedJson);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(expectedJsonObject, event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT});
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testSetElementsWithMissingPath() throws InterruptedException, ParseException {
+        log.info("SetElementsJSONFunctionTestCase - testSetElementsWithMissingPath");
+        String expectedJson = "{\"name\":\"John\",\"married\":false,\"subjects\":[\"Mathematics\"]}";
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:setElements(json, '$.address', 'SF', 'city', '$.married', false, '') as json\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject expectedJsonObject = (JSONObject) jsonParser.parse(expectedJson);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(expectedJsonObject, event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{JSON_INPUT});
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testSetElementsWithIncompleteTriple() {
+        log.info("SetElementsJSONFunctionTestCase - testSetElementsWithIncompleteTriple");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:setElements(json, '$.name', 'John Doe') as json\n" +
+                "insert into OutputStream;");
+        siddhiManager.createSiddhiAppRuntime(stream + query);
+    }
+}
@@ -24,6 +24,7 @@ import io.siddhi.core.event.Event;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.SiddhiTestHelper;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
@@ -33,6 +34,12 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class ToJSONFunctionTestCase {
@@ -79,4 +86,114 @@ public class ToJSONFunctionTestCase {
         inputHandler.send(new Object[]{JSON_INPUT});
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testToJSONObjectFunctionWithAsyncWorkers() throws InterruptedException {
+        log.info("ToJSONFunctionTestCase - testToJSONObjectFunctionWithAsyncWorkers");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "@async(buffer.size='256', workers='4', batch.size.max='8')\n" +
+                "define stream InputStream(id int, json string);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select id, json:toObject(json) as json\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        AtomicInteger mismatchCount = new AtomicInteger(0);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    JSONObject jsonObject = (JSONObject) event.getData(1);
+                    if (!event.getData(0).equals(jsonObject.get("id")) ||
+                            !("name" + event.getData(0)).equals(jsonObject.get("name"))) {
+                        mismatchCount.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        for (int i = 0; i < 2000; i++) {
+            inputHandler.send(new Object[]{i, "{id:" + i + ", name:\"name" + i + "\", tags:[\"a\", \"b\"]}"});
+        }
+        SiddhiTestHelper.waitForEvents(100, 2000, count, 60000);
+        AssertJUnit.assertEquals(2000, count.get());
+        AssertJUnit.assertEquals(0, mismatchCount.get());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testToJSONObjectFunctionWithBinaryInput() throws InterruptedException, ParseException {
+        log.info("ToJSONFunctionTestCase - testToJSONObjectFunctionWithBinaryInput");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json object);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:toObject(json) as json\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        String json = "{name:\"J\u00f6hn\", age:25, citizen:false}";
+        JSONObject jsonObject = (JSONObject) new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE).parse(json);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(jsonObject, event.getData(0));
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 4];
+        System.arraycopy(bytes, 0, padded, 2, bytes.length);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        inputHandler.send(new Object[]{bytes});
+        inputHandler.send(new Object[]{ByteBuffer.wrap(padded, 2, bytes.length)});
+        inputHandler.send(new Object[]{directBuffer});
+        AssertJUnit.assertEquals(3, count.get());
+        AssertJUnit.assertEquals(0, directBuffer.position());
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testToJSONObjectFunctionWithMapInput() throws InterruptedException {
+        log.info("ToJSONFunctionTestCase - testToJSONObjectFunctionWithMapInput");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json object);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:toObject(json) as json\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        Map<String, Object> input = new HashMap<>();
+        input.put("name", "John");
+        input.put("tags", new ArrayList<>(Arrays.asList("a", 1)));
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    AssertJUnit.assertEquals(input, event.getData(0));
+                    AssertJUnit.assertNotSame(input, event.getData(0));
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{input});
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
 }
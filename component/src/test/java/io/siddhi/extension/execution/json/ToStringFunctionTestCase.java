@@ -33,6 +33,8 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class ToStringFunctionTestCase {
@@ -330,4 +332,43 @@ public class ToStringFunctionTestCase {
         inputHandler.send(new Object[]{jsonObject, true});
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testToBytesFunction() throws InterruptedException, ParseException {
+        log.info("ToStringFunctionTestCase - testToBytesFunction");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String stream = "define stream InputStream(json object);\n";
+        String query = ("@info(name = 'query1')\n" +
+                "from InputStream\n" +
+                "select json:toBytes(json) as bytes, json:toBytes(json, true) as escapedBytes\n" +
+                "insert into OutputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stream + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    count.incrementAndGet();
+                    switch (count.get()) {
+                        case 1:
+                            AssertJUnit.assertTrue(Arrays.equals(("{\"user\":\"d\u00e4vid \u4e16\ud83d\ude00\"}")
+                                    .getBytes(StandardCharsets.UTF_8), (byte[]) event.getData(0)));
+                            AssertJUnit.assertTrue(Arrays.equals(("\"{\\\"user\\\":\\\"d\u00e4vid " +
+                                    "\u4e16\ud83d\ude00\\\"}\"").getBytes(StandardCharsets.UTF_8),
+                                    (byte[]) event.getData(1)));
+                            break;
+                    }
+                }
+            }
+        });
+
+        JSONParser jsonParser = new JSONParser(JSONParser.DEFAULT_PERMISSIVE_MODE);
+        JSONObject jsonObject = (JSONObject) jsonParser.parse("{\"user\":\"d\u00e4vid \u4e16\ud83d\ude00\"}");
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{jsonObject});
+        AssertJUnit.assertEquals(1, count.get());
+        siddhiAppRuntime.shutdown();
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class JsonDiagnosticsTestCase {
+    private static final Logger log = LogManager.getLogger(JsonDiagnosticsTestCase.class);
+
+    @Test
+    public void testConditionsAreCounted() {
+        log.info("JsonDiagnosticsTestCase - testConditionsAreCounted");
+        JsonDiagnostics diagnostics = new JsonDiagnostics(log, "json:getInt", configReader("1000"),
+                queryContext(), metrics());
+        diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, "$.age");
+        diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, "$.age");
+        diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, "$.name");
+        diagnostics.report(JsonDiagnostics.Condition.TYPE_MISMATCH, "$.name");
+        diagnostics.report(JsonDiagnostics.Condition.INVALID_JSON, null);
+        AssertJUnit.assertEquals(3, diagnostics.getCount(JsonDiagnostics.Condition.MISSING_PATH));
+        AssertJUnit.assertEquals(0, diagnostics.getCount(JsonDiagnostics.Condition.MULTIPLE_MATCHES));
+        AssertJUnit.assertEquals(1, diagnostics.getCount(JsonDiagnostics.Condition.TYPE_MISMATCH));
+        Map<JsonDiagnostics.Condition, Long> counts = diagnostics.getCounts();
+        AssertJUnit.assertEquals(4, counts.size());
+        AssertJUnit.assertEquals(Long.valueOf(1), counts.get(JsonDiagnostics.Condition.INVALID_JSON));
+    }
+
+    @Test(expectedExceptions = SiddhiAppValidationException.class)
+    public void testInvalidSummaryInterval() {
+        log.info("JsonDiagnosticsTestCase - testInvalidSummaryInterval");
+        new JsonDiagnostics(log, "json:getInt", configReader("1m"), queryContext(), metrics());
+    }
+
+    @Test
+    public void testNonPositiveSummaryInterval() {
+        log.info("JsonDiagnosticsTestCase - testNonPositiveSummaryInterval");
+        for (String interval : new String[]{"0", "-1000"}) {
+            try {
+                new JsonDiagnostics(log, "json:getInt", configReader(interval), queryContext(), metrics());
+                AssertJUnit.fail("Summary interval " + interval + " accepted");
+            } catch (SiddhiAppValidationException e) {
+                AssertJUnit.assertTrue(e.getMessage().contains("'" + interval + "'"));
+            }
+        }
+    }
+
+    @Test
+    public void testSummaryFollowsAppLifecycle() {
+        log.info("JsonDiagnosticsTestCase - testSummaryFollowsAppLifecycle");
+        SiddhiQueryContext siddhiQueryContext = queryContext();
+        SiddhiAppContext siddhiAppContext = siddhiQueryContext.getSiddhiAppContext();
+        ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        siddhiAppContext.setScheduledExecutorService(scheduledExecutorService);
+        try {
+            JsonDiagnostics diagnostics = new JsonDiagnostics(log, "json:getInt", configReader("1000"),
+                    siddhiQueryContext, metrics());
+            AssertJUnit.assertTrue(siddhiAppContext.getExternalReferencedHolders().contains(diagnostics));
+            diagnostics.start();
+            diagnostics.report(JsonDiagnostics.Condition.MISSING_PATH, "$.age");
+            diagnostics.stop();
+            diagnostics.stop();
+            AssertJUnit.assertEquals(1, diagnostics.getCount(JsonDiagnostics.Condition.MISSING_PATH));
+        } finally {
+            scheduledExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMetricsNotRecordedWithoutStatistics() {
+        log.info("JsonDiagnosticsTestCase - testMetricsNotRecordedWithoutStatistics");
+        JsonFunctionMetrics metrics = metrics();
+        AssertJUnit.assertFalse(metrics.isEnabled());
+        AssertJUnit.assertFalse(metrics.markIn());
+        metrics.parsed("{\"name\":\"John\"}");
+        metrics.parsedWithCache("{\"name\":\"John\"}");
+        metrics.reported(JsonDiagnostics.Condition.INVALID_JSON);
+    }
+
+    private static JsonFunctionMetrics metrics() {
+        return new JsonFunctionMetrics("json:getInt", queryContext());
+    }
+
+    private static SiddhiQueryContext queryContext() {
+        SiddhiAppContext siddhiAppContext = new SiddhiAppContext();
+        siddhiAppContext.setName("TestApp");
+        return new SiddhiQueryContext(siddhiAppContext, "query1");
+    }
+
+    private static ConfigReader configReader(String summaryInterval) {
+        Map<String, String> configs = new HashMap<>();
+        configs.put(JsonDiagnostics.SUMMARY_INTERVAL, summaryInterval);
+        return new ConfigReader() {
+            @Override
+            public String readConfig(String name, String defaultValue) {
+                return configs.getOrDefault(name, defaultValue);
+            }
+
+            @Override
+            public Map<String, String> getAllConfigs() {
+                return configs;
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import net.minidev.json.parser.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JsonElementKeyTestCase {
+    private static final Logger log = LogManager.getLogger(JsonElementKeyTestCase.class);
+
+    @Test
+    public void testKeyOrderDoesNotAffectFingerprint() throws ParseException {
+        log.info("JsonElementKeyTestCase - testKeyOrderDoesNotAffectFingerprint");
+        JsonElementKey key = JsonElementKey.of(JsonParsers.parseSimple(
+                "{\"name\":\"John\",\"address\":{\"city\":\"SF\",\"zip\":94103},\"tags\":[\"a\",\"b\"]}"));
+        JsonElementKey reorderedKey = JsonElementKey.of(JsonParsers.parseSimple(
+                "{\"tags\":[\"a\",\"b\"],\"address\":{\"zip\":94103,\"city\":\"SF\"},\"name\":\"John\"}"));
+        AssertJUnit.assertEquals(key.getFingerprint(), reorderedKey.getFingerprint());
+        AssertJUnit.assertEquals(key.hashCode(), reorderedKey.hashCode());
+        AssertJUnit.assertEquals(key, reorderedKey);
+    }
+
+    @Test
+    public void testDifferentElementsAreNotEqual() throws ParseException {
+        log.info("JsonElementKeyTestCase - testDifferentElementsAreNotEqual");
+        JsonElementKey key = JsonElementKey.of(JsonParsers.parseSimple("{\"tags\":[\"a\",\"b\"]}"));
+        AssertJUnit.assertFalse(key.equals(JsonElementKey.of(JsonParsers.parseSimple("{\"tags\":[\"b\",\"a\"]}"))));
+        AssertJUnit.assertFalse(key.equals(JsonElementKey.of(JsonParsers.parseSimple("{\"tags\":[\"a\"]}"))));
+        AssertJUnit.assertFalse(key.equals(JsonElementKey.of(JsonParsers.parseSimple("{\"tag\":[\"a\",\"b\"]}"))));
+        AssertJUnit.assertFalse(key.equals(JsonElementKey.of(null)));
+        AssertJUnit.assertEquals(JsonElementKey.of(null), JsonElementKey.of(null));
+    }
+
+    @Test
+    public void testKeysCountElements() throws ParseException {
+        log.info("JsonElementKeyTestCase - testKeysCountElements");
+        Map<JsonElementKey, Integer> counts = new LinkedHashMap<>();
+        for (String json : new String[]{"{\"a\":1,\"b\":2}", "{\"b\":2,\"a\":1}", "{\"a\":2,\"b\":1}"}) {
+            counts.merge(JsonElementKey.of(JsonParsers.parseSimple(json)), 1, Integer::sum);
+        }
+        AssertJUnit.assertEquals(2, counts.size());
+        AssertJUnit.assertEquals(Integer.valueOf(2),
+                counts.get(JsonElementKey.of(JsonParsers.parseSimple("{\"a\":1,\"b\":2}"))));
+    }
+}
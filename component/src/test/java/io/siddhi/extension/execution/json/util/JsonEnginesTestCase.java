@@ -0,0 +1,184 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.jayway.jsonpath.InvalidJsonException;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JsonEnginesTestCase {
+    private static final Logger log = LogManager.getLogger(JsonEnginesTestCase.class);
+    private static final String JSON = "{\"name\":\"John\",\"age\":25,\"balance\":12.5,\"id\":9223372036854775807," +
+            "\"citizen\":false,\"address\":null,\"tags\":[\"a\",1,[true]]}";
+
+    private static ConfigReader configReader(String engine) {
+        Map<String, String> configs = new HashMap<>();
+        if (engine != null) {
+            configs.put("json.getString.engine", engine);
+        }
+        return new InMemoryConfigManager(configs, null).generateConfigReader("json", "getString");
+    }
+
+    private static List<JsonEngine> engines(boolean permissive) {
+        return Arrays.asList(JsonEngines.read(configReader("json-smart"), "json:getString", permissive),
+                JsonEngines.read(configReader("gson"), "json:getString", permissive),
+                JsonEngines.read(configReader("jackson"), "json:getString", permissive));
+    }
+
+    @Test
+    public void testReadEngine() {
+        log.info("JsonEnginesTestCase - testReadEngine");
+        AssertJUnit.assertSame(JsonEngines.getDefault(), JsonEngines.read(configReader(null), "json:getString"));
+        AssertJUnit.assertEquals("json-smart", JsonEngines.read(configReader(null), "json:getString", false)
+                .getName());
+        AssertJUnit.assertEquals("gson", JsonEngines.read(configReader(" GSON "), "json:getString").getName());
+        AssertJUnit.assertEquals("jackson", JsonEngines.read(configReader("jackson"), "json:getString").getName());
+    }
+
+    @Test(expectedExceptions = SiddhiAppValidationException.class)
+    public void testReadInvalidEngine() {
+        log.info("JsonEnginesTestCase - testReadInvalidEngine");
+        JsonEngines.read(configReader("org.json"), "json:getString");
+    }
+
+    @Test
+    public void testEnginesParseToSameValues() {
+        log.info("JsonEnginesTestCase - testEnginesParseToSameValues");
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "John");
+        expected.put("age", 25);
+        expected.put("balance", 12.5);
+        expected.put("id", Long.MAX_VALUE);
+        expected.put("citizen", false);
+        expected.put("address", null);
+        expected.put("tags", Arrays.asList("a", 1, Arrays.asList(true)));
+        for (boolean permissive : new boolean[]{false, true}) {
+            for (JsonEngine engine : engines(permissive)) {
+                AssertJUnit.assertEquals(engine.getName(), expected, engine.parse(JSON));
+                AssertJUnit.assertEquals(engine.getName(), expected, engine.parse(engine.toJson(expected)));
+                AssertJUnit.assertEquals(engine.getName(), "text", engine.parse("\"text\""));
+            }
+        }
+        AssertJUnit.assertEquals(expected, JsonEngines.getDefault().parse(JSON));
+    }
+
+    @Test
+    public void testParseBinary() {
+        log.info("JsonEnginesTestCase - testParseBinary");
+        String json = "{\"name\":\"J\u00f6hn \ud83d\ude00\",\"tags\":[\"a\",1]}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 8];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        List<JsonEngine> engines = new ArrayList<>(engines(false));
+        engines.addAll(engines(true));
+        engines.add(JsonEngines.getDefault());
+        for (JsonEngine engine : engines) {
+            Object expected = engine.parse(json);
+            AssertJUnit.assertEquals(engine.getName(), expected, JsonUtils.parseBinary(bytes, engine));
+            AssertJUnit.assertEquals(engine.getName(), expected, engine.parse(padded, 3, bytes.length));
+            AssertJUnit.assertEquals(engine.getName(), expected,
+                    JsonUtils.parseBinary(ByteBuffer.wrap(padded, 3, bytes.length), engine));
+            AssertJUnit.assertEquals(engine.getName(), expected, JsonUtils.parseBinary(directBuffer, engine));
+            AssertJUnit.assertEquals(0, directBuffer.position());
+        }
+    }
+
+    @Test
+    public void testPermissiveSyntax() {
+        log.info("JsonEnginesTestCase - testPermissiveSyntax");
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "John");
+        expected.put("age", 25);
+        for (JsonEngine engine : engines(true)) {
+            AssertJUnit.assertEquals(engine.getName(), expected, engine.parse("{name:'John', age:25}"));
+        }
+        for (JsonEngine engine : engines(false)) {
+            try {
+                engine.parse("{name:'John', age:25}");
+                AssertJUnit.fail(engine.getName() + " parsed a JSON with unquoted keys in the strict mode");
+            } catch (InvalidJsonException e) {
+                log.info("Rejected by " + engine.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidJson() {
+        log.info("JsonEnginesTestCase - testInvalidJson");
+        for (boolean permissive : new boolean[]{false, true}) {
+            for (JsonEngine engine : engines(permissive)) {
+                for (String json : new String[]{"{\"name\":", "[1, 2", "{\"name\":\"John\""}) {
+                    try {
+                        engine.parse(json);
+                        AssertJUnit.fail(engine.getName() + " parsed the invalid JSON " + json);
+                    } catch (InvalidJsonException e) {
+                        log.info("Rejected by " + engine.getName() + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDescribeBinaryInput() {
+        log.info("JsonEnginesTestCase - testDescribeBinaryInput");
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        AssertJUnit.assertEquals(JSON, JsonUtils.describe(bytes));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        AssertJUnit.assertEquals(JSON, JsonUtils.describe(buffer));
+        AssertJUnit.assertEquals(0, buffer.position());
+        StringBuilder largeJson = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            largeJson.append(i == 0 ? "" : ",").append(JSON);
+        }
+        byte[] largeBytes = largeJson.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        String description = JsonUtils.describe(largeBytes);
+        AssertJUnit.assertTrue(description.startsWith("[" + JSON.substring(0, 100)));
+        AssertJUnit.assertTrue(description.endsWith("... (" + largeBytes.length + " bytes)"));
+        AssertJUnit.assertTrue(description.length() < 300);
+        AssertJUnit.assertEquals(JSON, JsonUtils.describe(JSON));
+    }
+
+    @Test
+    public void testDocumentCacheIsPerEngine() {
+        log.info("JsonEnginesTestCase - testDocumentCacheIsPerEngine");
+        JsonEngine gson = JsonEngines.read(configReader("gson"), "json:getString");
+        Object document = ParsedDocumentCache.parse(JSON, gson);
+        AssertJUnit.assertSame(document, ParsedDocumentCache.parse(JSON, gson));
+        AssertJUnit.assertNotSame(document, ParsedDocumentCache.parse(JSON, JsonEngines.getDefault()));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import net.minidev.json.parser.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JsonGroupSnapshotCodecTestCase {
+    private static final Logger log = LogManager.getLogger(JsonGroupSnapshotCodecTestCase.class);
+
+    private static Map<JsonElementKey, Integer> dataMap() throws ParseException {
+        Map<JsonElementKey, Integer> dataMap = new LinkedHashMap<>();
+        dataMap.put(JsonElementKey.of(JsonParsers.parseSimple("{\"id\":2,\"tags\":[\"a\",\"b\"]}")), 3);
+        dataMap.put(JsonElementKey.of(null), 1);
+        for (int i = 0; i < 200; i++) {
+            dataMap.put(JsonElementKey.of(JsonParsers.parseSimple("{\"id\":" + i + ",\"name\":\"sensor\"}")),
+                    i + 1);
+        }
+        return dataMap;
+    }
+
+    @Test
+    public void testRoundTrip() throws ParseException {
+        log.info("JsonGroupSnapshotCodecTestCase - testRoundTrip");
+        Map<JsonElementKey, Integer> dataMap = dataMap();
+        byte[] snapshot = JsonGroupSnapshotCodec.encode(dataMap, false);
+        AssertJUnit.assertEquals(JsonGroupSnapshotCodec.VERSION, snapshot[0]);
+        Map<JsonElementKey, Integer> restored = JsonGroupSnapshotCodec.decode(snapshot);
+        AssertJUnit.assertEquals(dataMap, restored);
+        AssertJUnit.assertEquals(new ArrayList<>(dataMap.keySet()), new ArrayList<>(restored.keySet()));
+    }
+
+    @Test
+    public void testCompressedRoundTrip() throws ParseException {
+        log.info("JsonGroupSnapshotCodecTestCase - testCompressedRoundTrip");
+        Map<JsonElementKey, Integer> dataMap = dataMap();
+        byte[] snapshot = JsonGroupSnapshotCodec.encode(dataMap, true);
+        AssertJUnit.assertTrue(snapshot.length < JsonGroupSnapshotCodec.encode(dataMap, false).length);
+        Map<JsonElementKey, Integer> restored = JsonGroupSnapshotCodec.decode(snapshot);
+        AssertJUnit.assertEquals(new ArrayList<>(dataMap.entrySet()), new ArrayList<>(restored.entrySet()));
+    }
+
+    @Test(expectedExceptions = SiddhiAppRuntimeException.class)
+    public void testUnknownVersion() throws ParseException {
+        log.info("JsonGroupSnapshotCodecTestCase - testUnknownVersion");
+        byte[] snapshot = JsonGroupSnapshotCodec.encode(dataMap(), false);
+        snapshot[0] = 2;
+        JsonGroupSnapshotCodec.decode(snapshot);
+    }
+
+    @Test(expectedExceptions = SiddhiAppRuntimeException.class)
+    public void testTruncatedSnapshot() throws ParseException {
+        log.info("JsonGroupSnapshotCodecTestCase - testTruncatedSnapshot");
+        byte[] snapshot = JsonGroupSnapshotCodec.encode(dataMap(), false);
+        byte[] truncated = new byte[snapshot.length / 2];
+        System.arraycopy(snapshot, 0, truncated, 0, truncated.length);
+        JsonGroupSnapshotCodec.decode(truncated);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.minidev.json.JSONValue;
+import net.minidev.json.parser.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JsonSerializerTestCase {
+    private static final Logger log = LogManager.getLogger(JsonSerializerTestCase.class);
+    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    private static final String SPECIAL_CHARACTERS = "quote\" backslash\\ tab\t newline\n nul\u0000 esc\u001b " +
+            "html<>&=' separators\u2028\u2029 unicode\u00e9\u4e16 emoji\ud83d\ude00";
+
+    private static void assertSameAsGson(Object value) {
+        AssertJUnit.assertEquals(gson.toJson(value), JsonSerializer.toJson(value));
+        AssertJUnit.assertEquals(gson.toJson(gson.toJson(value)), JsonSerializer.toJson(value, true));
+    }
+
+    @Test
+    public void testStrings() {
+        log.info("JsonSerializerTestCase - testStrings");
+        assertSameAsGson("");
+        assertSameAsGson("plain");
+        assertSameAsGson("{\"user\":\"david\"}");
+        assertSameAsGson(SPECIAL_CHARACTERS);
+    }
+
+    @Test
+    public void testObjects() throws ParseException {
+        log.info("JsonSerializerTestCase - testObjects");
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("text", SPECIAL_CHARACTERS);
+        map.put("numbers", Arrays.asList(1, 2.5, -3L));
+        map.put("missing", null);
+        map.put("nested", JsonParsers.parseSimple("{\"user\":\"david\",\"tags\":[\"a<b\",true]}"));
+        assertSameAsGson(map);
+        assertSameAsGson(null);
+        assertSameAsGson(42);
+        assertSameAsGson(true);
+    }
+
+    @Test
+    public void testJSONString() throws ParseException {
+        log.info("JsonSerializerTestCase - testJSONString");
+        Object json = JsonParsers.parseSimple("{\"user\":\"david\",\"tags\":[\"a<b\",true,null],\"age\":40}");
+        AssertJUnit.assertEquals(JSONValue.toJSONString(json), JsonSerializer.toJSONString(json));
+        AssertJUnit.assertEquals(JSONValue.toJSONString(SPECIAL_CHARACTERS),
+                JsonSerializer.toJSONString(SPECIAL_CHARACTERS));
+        AssertJUnit.assertEquals("null", JsonSerializer.toJSONString(null));
+    }
+
+    @Test
+    public void testBufferShrinksAfterLargeValues() {
+        log.info("JsonSerializerTestCase - testBufferShrinksAfterLargeValues");
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            large.append("\"x\"");
+        }
+        assertSameAsGson(large.toString());
+        for (int i = 0; i < 50; i++) {
+            assertSameAsGson("short");
+        }
+        AssertJUnit.assertTrue(JsonSerializer.bufferCapacity() < 4096);
+    }
+
+    @Test
+    public void testNestedBuffersAreNotShared() {
+        log.info("JsonSerializerTestCase - testNestedBuffersAreNotShared");
+        StringBuilder outer = JsonSerializer.acquireBuffer();
+        try {
+            outer.append("outer:");
+            AssertJUnit.assertEquals("\"inner\"", JsonSerializer.toJson("inner"));
+            AssertJUnit.assertEquals("outer:", outer.toString());
+        } finally {
+            JsonSerializer.releaseBuffer(outer);
+        }
+    }
+
+    @Test
+    public void testToBytes() throws ParseException {
+        log.info("JsonSerializerTestCase - testToBytes");
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("text", SPECIAL_CHARACTERS);
+        json.put("nested", JsonParsers.parseSimple("{\"user\":\"d\u00e4vid\",\"tags\":[\"a<b\",true]}"));
+        AssertJUnit.assertTrue(Arrays.equals(JsonSerializer.toJson(json).getBytes(StandardCharsets.UTF_8),
+                JsonSerializer.toBytes(json)));
+        AssertJUnit.assertTrue(Arrays.equals(JsonSerializer.toJson(json, true).getBytes(StandardCharsets.UTF_8),
+                JsonSerializer.toBytes(json, true)));
+        for (String value : new String[]{"", "plain", SPECIAL_CHARACTERS, "lone\ud83d surrogate\ude00 end\ud83d"}) {
+            AssertJUnit.assertTrue(Arrays.equals(value.getBytes(StandardCharsets.UTF_8),
+                    JsonSerializer.toUtf8(value)));
+        }
+    }
+}
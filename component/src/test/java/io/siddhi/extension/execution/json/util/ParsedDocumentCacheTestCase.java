@@ -0,0 +1,121 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+public class ParsedDocumentCacheTestCase {
+    private static final Logger log = LogManager.getLogger(ParsedDocumentCacheTestCase.class);
+    private CountingJsonEngine engine;
+
+    @BeforeMethod
+    public void init() {
+        ParsedDocumentCache.clear();
+        engine = new CountingJsonEngine();
+    }
+
+    @Test
+    public void testParseIsShared() {
+        log.info("ParsedDocumentCacheTestCase - testParseIsShared");
+        String json = "{\"name\":\"John\",\"address\":{\"city\":\"NY\"}}";
+        Object document = ParsedDocumentCache.parse(json, engine);
+        AssertJUnit.assertTrue(ParsedDocumentCache.contains(json));
+        AssertJUnit.assertSame(document, ParsedDocumentCache.parse(json, engine));
+        AssertJUnit.assertSame(document, JsonUtils.toDocument(json, engine));
+        AssertJUnit.assertEquals(1, engine.parseCount);
+
+        String equalJson = new String(json);
+        AssertJUnit.assertFalse(ParsedDocumentCache.contains(equalJson));
+        AssertJUnit.assertNotSame(document, ParsedDocumentCache.parse(equalJson, engine));
+        AssertJUnit.assertEquals(2, engine.parseCount);
+    }
+
+    @Test
+    public void testClear() {
+        log.info("ParsedDocumentCacheTestCase - testClear");
+        String json = "{\"name\":\"John\"}";
+        ParsedDocumentCache.parse(json, engine);
+        ParsedDocumentCache.clear();
+        AssertJUnit.assertFalse(ParsedDocumentCache.contains(json));
+        ParsedDocumentCache.parse(json, engine);
+        AssertJUnit.assertEquals(2, engine.parseCount);
+    }
+
+    @Test
+    public void testReadStringIsParsedOnce() {
+        log.info("ParsedDocumentCacheTestCase - testReadStringIsParsedOnce");
+        String json = "{\"name\":\"John\"}";
+        AssertJUnit.assertTrue(ParsedDocumentCache.markRead(json));
+        AssertJUnit.assertFalse(ParsedDocumentCache.contains(json));
+        AssertJUnit.assertFalse(ParsedDocumentCache.markRead(json));
+        Object document = ParsedDocumentCache.parse(json, engine);
+        AssertJUnit.assertTrue(ParsedDocumentCache.contains(json));
+        AssertJUnit.assertFalse(ParsedDocumentCache.markRead(json));
+        AssertJUnit.assertSame(document, ParsedDocumentCache.parse(json, engine));
+        AssertJUnit.assertEquals(1, engine.parseCount);
+    }
+
+    @Test
+    public void testDetachedValuesAreCopies() {
+        log.info("ParsedDocumentCacheTestCase - testDetachedValuesAreCopies");
+        String json = "{\"name\":\"John\",\"address\":{\"city\":\"NY\"}}";
+        Map document = (Map) ParsedDocumentCache.parse(json, engine);
+        Map address = (Map) JsonUtils.detach(document.get("address"), engine);
+        AssertJUnit.assertNotSame(document.get("address"), address);
+        address.put("city", "SF");
+        AssertJUnit.assertEquals("NY", ((Map) ((Map) ParsedDocumentCache.parse(json, engine)).get("address"))
+                .get("city"));
+        AssertJUnit.assertEquals(1, engine.parseCount);
+        AssertJUnit.assertSame(document.get("name"), JsonUtils.detach(document.get("name"), engine));
+    }
+
+    private static class CountingJsonEngine implements JsonEngine {
+        private final JsonEngine engine = JsonEngines.getDefault();
+        private int parseCount;
+
+        @Override
+        public String getName() {
+            return engine.getName();
+        }
+
+        @Override
+        public Object parse(String json) {
+            parseCount++;
+            return engine.parse(json);
+        }
+
+        @Override
+        public Object parse(byte[] json, int offset, int length) {
+            parseCount++;
+            return engine.parse(json, offset, length);
+        }
+
+        @Override
+        public String toJson(Object value) {
+            return engine.toJson(value);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.siddhi.extension.execution.json.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class StreamingJsonScannerTestCase {
+    private static final Logger log = LogManager.getLogger(StreamingJsonScannerTestCase.class);
+    private static final JsonEngine engine = JsonEngines.getDefault();
+
+    private static Object[] segments(Object... segments) {
+        return segments;
+    }
+
+    @Test
+    public void testScan() {
+        log.info("StreamingJsonScannerTestCase - testScan");
+        String json = "{\"id\":\"A1\", \"qty\":3, \"items\":[{\"sku\":\"x\"}, {\"sku\":\"y\", \"tags\":[true, null]}]}";
+        AssertJUnit.assertEquals("A1", StreamingJsonScanner.scan(json, segments("id"), engine, false));
+        AssertJUnit.assertEquals(3, StreamingJsonScanner.scan(json, segments("qty"), engine, false));
+        AssertJUnit.assertEquals("y", StreamingJsonScanner.scan(json, segments("items", 1, "sku"), engine, false));
+        AssertJUnit.assertEquals(Arrays.asList(true, null),
+                StreamingJsonScanner.scan(json, segments("items", 1, "tags"), engine, false));
+        AssertJUnit.assertNull(StreamingJsonScanner.scan(json, segments("items", 1, "tags", 1), engine, false));
+        AssertJUnit.assertSame(StreamingJsonScanner.NOT_FOUND,
+                StreamingJsonScanner.scan(json, segments("items", 2), engine, false));
+        AssertJUnit.assertSame(StreamingJsonScanner.NOT_FOUND,
+                StreamingJsonScanner.scan(json, segments("id", "value"), engine, false));
+    }
+
+    @Test
+    public void testValidationUsesLastOccurrenceOfDuplicateKeys() {
+        log.info("StreamingJsonScannerTestCase - testValidationUsesLastOccurrenceOfDuplicateKeys");
+        String json = "{\"a\":1, \"b\":{\"c\":1}, \"a\":2, \"b\":{\"d\":2}}";
+        Map document = (Map) engine.parse(json);
+        AssertJUnit.assertEquals(document.get("a"), StreamingJsonScanner.scan(json, segments("a"), engine, true));
+        AssertJUnit.assertEquals(2, StreamingJsonScanner.scan(json, segments("a"), engine, true));
+        AssertJUnit.assertEquals(2, StreamingJsonScanner.scan(json, segments("b", "d"), engine, true));
+        AssertJUnit.assertSame(StreamingJsonScanner.NOT_FOUND,
+                StreamingJsonScanner.scan(json, segments("b", "c"), engine, true));
+        AssertJUnit.assertEquals(1, StreamingJsonScanner.scan(json, segments("a"), engine, false));
+        AssertJUnit.assertEquals(1, StreamingJsonScanner.scan(json, segments("b", "c"), engine, false));
+    }
+
+    @Test
+    public void testScanStopsAtTargetUnlessValidating() {
+        log.info("StreamingJsonScannerTestCase - testScanStopsAtTargetUnlessValidating");
+        String json = "{\"a\":{\"b\":1}, \"c\":[1,,2]}";
+        AssertJUnit.assertEquals(1, StreamingJsonScanner.scan(json, segments("a", "b"), engine, false));
+        AssertJUnit.assertSame(StreamingJsonScanner.UNSUPPORTED,
+                StreamingJsonScanner.scan(json, segments("a", "b"), engine, true));
+        AssertJUnit.assertSame(StreamingJsonScanner.UNSUPPORTED,
+                StreamingJsonScanner.scan(json, segments("d"), engine, false));
+    }
+
+    @Test
+    public void testLenientSyntaxIsUnsupported() {
+        log.info("StreamingJsonScannerTestCase - testLenientSyntaxIsUnsupported");
+        String[] lenientJsons = {
+                "{'a':1}",
+                "{a:1}",
+                "{\"a\":'x'}",
+                "{\"b\":{c:1}, \"a\":1}"
+        };
+        for (String json : lenientJsons) {
+            AssertJUnit.assertSame(json, StreamingJsonScanner.UNSUPPORTED,
+                    StreamingJsonScanner.scan(json, segments("a"), engine, false));
+        }
+    }
+
+    @Test
+    public void testInvalidDocumentsAreNotEvaluated() {
+        log.info("StreamingJsonScannerTestCase - testInvalidDocumentsAreNotEvaluated");
+        String[] invalidJsons = {
+                "{\"a\":1, \"b\":[1,,2]}",
+                "{\"a\":1, \"b\":",
+                "{\"a\":1} {\"b\":2}",
+                "{\"a\":1, \"b\":\"unterminated}",
+                "{\"a\":1, \"b\":01}",
+                "{\"a\":1, \"b\":tru}",
+                "{\"a\":1, \"b\":\"bad\\escape\"}",
+                "{\"a\":1, \"b\":{\"c\":2]}"
+        };
+        for (String json : invalidJsons) {
+            AssertJUnit.assertSame(json, StreamingJsonScanner.UNSUPPORTED,
+                    StreamingJsonScanner.scan(json, segments("a"), engine, true));
+            AssertJUnit.assertEquals(json, StreamingJsonScanner.SPLIT_UNSUPPORTED,
+                    StreamingJsonScanner.split(json, segments("a"), 0, Integer.MAX_VALUE, true,
+                            (element, index) -> AssertJUnit.fail("Element emitted for " + json)));
+        }
+    }
+
+    @Test
+    public void testScanParsesWithGivenEngine() {
+        log.info("StreamingJsonScannerTestCase - testScanParsesWithGivenEngine");
+        List<String> parsed = new ArrayList<>();
+        JsonEngine recordingEngine = new JsonEngine() {
+            @Override
+            public String getName() {
+                return "recording";
+            }
+
+            @Override
+            public Object parse(String json) {
+                parsed.add(json);
+                return engine.parse(json);
+            }
+
+            @Override
+            public Object parse(byte[] json, int offset, int length) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String toJson(Object value) {
+                return engine.toJson(value);
+            }
+        };
+        Object value = StreamingJsonScanner.scan("{\"a\":{\"b\": [1, 2]}, \"c\":3}", segments("a"), recordingEngine,
+                false);
+        AssertJUnit.assertEquals(engine.parse("{\"b\":[1,2]}"), value);
+        AssertJUnit.assertEquals(Arrays.asList("{\"b\": [1, 2]}"), parsed);
+    }
+
+    @Test
+    public void testSplit() {
+        log.info("StreamingJsonScannerTestCase - testSplit");
+        String json = "{\"items\":[1, {\"a\":2}], \"items\":[\"x\", [3], 4, 5], \"tail\":true}";
+        List<Object> elements = new ArrayList<>();
+        int count = StreamingJsonScanner.split(json, segments("items"), 1, 2, true, (element, index) -> {
+            elements.add(element);
+            elements.add(index);
+        });
+        AssertJUnit.assertEquals(3, count);
+        AssertJUnit.assertEquals(Arrays.asList("[3]", 1, "4", 2), elements);
+        AssertJUnit.assertEquals(StreamingJsonScanner.SPLIT_NOT_FOUND,
+                StreamingJsonScanner.split(json, segments("missing"), 0, 1, true, (element, index) -> { }));
+        AssertJUnit.assertEquals(StreamingJsonScanner.SPLIT_UNSUPPORTED,
+                StreamingJsonScanner.split(json, segments("tail"), 0, 1, true, (element, index) -> { }));
+    }
+
+    @Test
+    public void testSplitStopsAfterLimitUnlessValidating() {
+        log.info("StreamingJsonScannerTestCase - testSplitStopsAfterLimitUnlessValidating");
+        String json = "{\"items\":[1, [2], 3, ,], \"tail\":";
+        List<Object> elements = new ArrayList<>();
+        int count = StreamingJsonScanner.split(json, segments("items"), 1, 2, false, (element, index) -> {
+            elements.add(element);
+            elements.add(index);
+        });
+        AssertJUnit.assertEquals(3, count);
+        AssertJUnit.assertEquals(Arrays.asList("[2]", 1, "3", 2), elements);
+        AssertJUnit.assertEquals(StreamingJsonScanner.SPLIT_UNSUPPORTED,
+                StreamingJsonScanner.split(json, segments("items"), 1, 2, true,
+                        (element, index) -> AssertJUnit.fail("Element emitted for " + json)));
+        AssertJUnit.assertEquals(StreamingJsonScanner.SPLIT_UNSUPPORTED,
+                StreamingJsonScanner.split(json, segments("items"), 1, 3, false,
+                        (element, index) -> AssertJUnit.fail("Element emitted for " + json)));
+    }
+}